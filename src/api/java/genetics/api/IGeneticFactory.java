@@ -14,6 +14,8 @@ import genetics.api.alleles.IAlleleTemplateBuilder;
 import genetics.api.individual.IChromosome;
 import genetics.api.individual.IChromosomeType;
 import genetics.api.individual.IGenome;
+import genetics.api.individual.IGenomeWrapper;
+import genetics.api.individual.IGenomeWrapperFactory;
 import genetics.api.individual.IIndividual;
 import genetics.api.individual.IIndividualBuilder;
 import genetics.api.individual.IKaryotype;
@@ -74,6 +76,24 @@ public interface IGeneticFactory {
 	 */
 	IGenome createGenome(IKaryotype karyotype, IChromosome[] chromosomes);
 
+	/**
+	 * Creates a instance of the default implementation of a {@link IGenomeWrapper} that resolves the alleles of the
+	 * genome and their values once, so they can be read without any lookup.
+	 * <p>
+	 * Uses the {@link #getWrapperFactory(IKaryotype)} of the karyotype of the genome.
+	 *
+	 * @param genome The genome that should be wrapped.
+	 */
+	IGenomeWrapper createWrapper(IGenome genome);
+
+	/**
+	 * Returns the default implementation of a {@link IGenomeWrapperFactory} for the given karyotype. The factory
+	 * generates its wrapper class and accessors the first time that a wrapper or an accessor is requested.
+	 * <p>
+	 * Can be used to implement {@link IIndividualRoot#getWrapperFactory()}.
+	 */
+	IGenomeWrapperFactory getWrapperFactory(IKaryotype karyotype);
+
 	/**
 	 * Creates an instance of a {@link IChromosome} with the same active and inactive allele.
 	 *
@@ -60,6 +60,33 @@ public interface IGeneticSaveHandler {
 	@Nullable
 	IAllele getAlleleDirectly(ItemStack itemStack, IOrganismType type, IChromosomeType chromosomeType, boolean active);
 
+	/**
+	 * Quickly gets the alleles of several chromosomes at once. The NBT-Data is only read once for all chromosomes, so
+	 * this should be preferred over calling {@link #getAlleleDirectly(NBTTagCompound, IChromosomeType, boolean)} for
+	 * every chromosome. Absent chromosomes are not created.
+	 *
+	 * @param genomeNBT       The NBT-Data that contains the information about the chromosomes
+	 * @param chromosomeTypes The gene types of the chromosomes. All types have to belong to the same karyotype.
+	 * @param alleles         The array to that the alleles are written. The active allele of the chromosome at the
+	 *                        index <code>i</code> of the types array is written to the index <code>i * 2</code> and
+	 *                        the inactive allele to <code>i * 2 + 1</code>. The alleles of absent or invalid
+	 *                        chromosomes are set to null.
+	 * @throws IllegalArgumentException If the array is smaller than twice the amount of chromosome types.
+	 */
+	void getAllelesDirectly(NBTTagCompound genomeNBT, IChromosomeType[] chromosomeTypes, IAllele[] alleles);
+
+	/**
+	 * Quickly gets the alleles of several chromosomes at once without loading the whole genome. And without creating
+	 * absent chromosomes.
+	 *
+	 * @param itemStack       The stack that contains the information about the chromosomes
+	 * @param chromosomeTypes The gene types of the chromosomes. All types have to belong to the same karyotype.
+	 * @param alleles         The array to that the alleles are written, see
+	 *                        {@link #getAllelesDirectly(NBTTagCompound, IChromosomeType[], IAllele[])}.
+	 * @return True if the stack contains a genome, false if not. All alleles are set to null if it contains none.
+	 */
+	boolean getAllelesDirectly(ItemStack itemStack, IOrganismType type, IChromosomeType[] chromosomeTypes, IAllele[] alleles);
+
 	/**
 	 * Tries to load the chromosome of the given type and creates it if it is absent.
 	 *
@@ -14,6 +14,8 @@ import net.minecraftforge.registries.IForgeRegistryEntry;
 public abstract class Allele extends IForgeRegistryEntry.Impl<IAllele> implements IAllele {
 	protected final boolean dominant;
 	protected final String localisationKey;
+	/* The id that the allele registry stamped on this allele. */
+	private volatile int id = -1;
 
 	protected Allele(String localisationKey, boolean dominant) {
 		this.localisationKey = localisationKey;
@@ -25,6 +27,16 @@ public abstract class Allele extends IForgeRegistryEntry.Impl<IAllele> implement
 		return dominant;
 	}
 
+	@Override
+	public int getId() {
+		return id;
+	}
+
+	@Override
+	public void setId(int id) {
+		this.id = id;
+	}
+
 	@Override
 	public int hashCode() {
 		return getRegistryName() != null ? getRegistryName().hashCode() : Objects.hash(dominant);
@@ -43,4 +43,22 @@ public interface IAllele extends IForgeRegistryEntry<IAllele> {
 	 */
 	@Nonnull
 	ResourceLocation getRegistryName();
+
+	/**
+	 * @return The numeric id that the allele registry has stamped on this allele, or -1 if the allele is not registered
+	 * or does not support stamped ids.
+	 */
+	default int getId() {
+		return -1;
+	}
+
+	/**
+	 * Called by the allele registry if the allele gets registered or the ids of the registry get remapped.
+	 * <p>
+	 * Should not be called by anything else.
+	 *
+	 * @param id The numeric id of the allele or -1 if the allele has no id anymore.
+	 */
+	default void setId(int id) {
+	}
 }
@@ -105,6 +105,12 @@ public interface IAlleleRegistry {
 	 */
 	Collection<IAllele> getRegisteredAlleles(IChromosomeType type);
 
+	/**
+	 * @return The sorted numeric ids of all the known allele variations for the given chromosome type. The array must not
+	 * be modified.
+	 */
+	int[] getRegisteredAlleleIds(IChromosomeType type);
+
 	/**
 	 * Returns true if the given allele is a valid allele for the given chromosome type.
 	 *
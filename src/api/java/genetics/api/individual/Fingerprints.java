@@ -0,0 +1,47 @@
+package genetics.api.individual;
+
+import javax.annotation.Nullable;
+
+import genetics.api.alleles.IAllele;
+
+/**
+ * The hash that is used to create the {@link IGenome#getFingerprint()} of a genome.
+ * <p>
+ * The fingerprint is a 64 bit FNV-1a hash over the active and the inactive allele of every chromosome in the order of
+ * the chromosome types, whose bits get mixed by {@link #finish(long)}. Every implementation of {@link IGenome} that
+ * computes its own fingerprint must use these methods, so genomes with equal alleles have equal fingerprints.
+ */
+public final class Fingerprints {
+	/**
+	 * The offset basis of the hash. Every fingerprint starts with this value.
+	 */
+	public static final long BASIS = 0xCBF29CE484222325L;
+	private static final long PRIME = 0x100000001B3L;
+
+	private Fingerprints() {
+	}
+
+	/**
+	 * Adds the given allele to the fingerprint.
+	 * <p>
+	 * The fingerprint uses the hash code of the registry names of the alleles instead of their ids, because the ids
+	 * can be remapped if a world gets loaded.
+	 */
+	@SuppressWarnings("ConstantConditions")
+	public static long add(long fingerprint, @Nullable IAllele allele) {
+		int hash = allele == null || allele.getRegistryName() == null ? 0 : allele.getRegistryName().hashCode();
+		return (fingerprint ^ hash) * PRIME;
+	}
+
+	/**
+	 * Mixes the bits of the fingerprint, so the lower bits that are used by hash maps also depend on every allele.
+	 */
+	public static long finish(long fingerprint) {
+		fingerprint ^= fingerprint >>> 33;
+		fingerprint *= 0xFF51AFD7ED558CCDL;
+		fingerprint ^= fingerprint >>> 33;
+		fingerprint *= 0xC4CEB9FE1A85EC53L;
+		fingerprint ^= fingerprint >>> 33;
+		return fingerprint;
+	}
+}
@@ -29,6 +29,36 @@ public interface IGenome {
 	 */
 	<V> V getActiveValue(IChromosomeType chromosomeType, Class<? extends V> valueClass);
 
+	/**
+	 * Gets the integer value of the active allele without boxing it, if the implementation supports it.
+	 *
+	 * @return The integer value of the active allele of the chromosome with the given type.
+	 * @throws IllegalArgumentException If the allele has no integer value.
+	 */
+	default int getActiveInt(IChromosomeType chromosomeType) {
+		return getActiveValue(chromosomeType, Integer.class);
+	}
+
+	/**
+	 * Gets the float value of the active allele without boxing it, if the implementation supports it.
+	 *
+	 * @return The float value of the active allele of the chromosome with the given type.
+	 * @throws IllegalArgumentException If the allele has no float value.
+	 */
+	default float getActiveFloat(IChromosomeType chromosomeType) {
+		return getActiveValue(chromosomeType, Float.class);
+	}
+
+	/**
+	 * Gets the boolean value of the active allele without boxing it, if the implementation supports it.
+	 *
+	 * @return The boolean value of the active allele of the chromosome with the given type.
+	 * @throws IllegalArgumentException If the allele has no boolean value.
+	 */
+	default boolean getActiveBoolean(IChromosomeType chromosomeType) {
+		return getActiveValue(chromosomeType, Boolean.class);
+	}
+
 	/**
 	 * @return The inactive allele of the chromosome with the given type.
 	 */
@@ -59,6 +89,29 @@ public interface IGenome {
 	 */
 	boolean isGeneticEqual(IGenome other);
 
+	/**
+	 * A 64 bit hash of all alleles of this genome that gets computed at the creation of the genome.
+	 * <p>
+	 * Genomes with identical alleles always have the same fingerprint, so two genomes with a different fingerprint are
+	 * never genetic equal. The fingerprint is also used as the {@link Object#hashCode()} of the genome.
+	 * <p>
+	 * The default implementation computes the fingerprint with {@link Fingerprints} on every call. Implementations
+	 * should compute it once and must use the same hash, so genomes of different implementations with equal alleles
+	 * have equal fingerprints.
+	 *
+	 * @return The fingerprint of this genome.
+	 */
+	default long getFingerprint() {
+		IAllele[] activeAlleles = getActiveAlleles();
+		IAllele[] inactiveAlleles = getInactiveAlleles();
+		long fingerprint = Fingerprints.BASIS;
+		for (int i = 0; i < activeAlleles.length; i++) {
+			fingerprint = Fingerprints.add(fingerprint, activeAlleles[i]);
+			fingerprint = Fingerprints.add(fingerprint, i < inactiveAlleles.length ? inactiveAlleles[i] : null);
+		}
+		return Fingerprints.finish(fingerprint);
+	}
+
 	/**
 	 * @return true if this chromosome has the same active and inactive allele.
 	 */
@@ -1,5 +1,6 @@
 package genetics.api.individual;
 
+import genetics.api.alleles.IAllele;
 import genetics.api.root.IIndividualRoot;
 
 /**
@@ -11,6 +12,9 @@ import genetics.api.root.IIndividualRoot;
  * <p>
  * You can get an instance of a genome wrapper from the {@link IIndividualRoot} of a species with
  * {@link IIndividualRoot#createWrapper(IGenome)}.
+ * <p>
+ * The default implementation of the accessors delegates to the genome. Implementations can resolve the alleles and
+ * their values once and return them without any lookup.
  */
 public interface IGenomeWrapper {
 	/**
@@ -18,4 +22,65 @@ public interface IGenomeWrapper {
 	 */
 	IGenome getGenome();
 
+	/**
+	 * @return The active allele of the chromosome with the given type.
+	 */
+	default IAllele getActiveAllele(IChromosomeType chromosomeType) {
+		return getGenome().getActiveAllele(chromosomeType);
+	}
+
+	/**
+	 * @return The inactive allele of the chromosome with the given type.
+	 */
+	default IAllele getInactiveAllele(IChromosomeType chromosomeType) {
+		return getGenome().getInactiveAllele(chromosomeType);
+	}
+
+	/**
+	 * @return The integer value of the active allele of the chromosome with the given type.
+	 * @throws IllegalArgumentException If the allele has no integer value.
+	 */
+	default int getActiveInt(IChromosomeType chromosomeType) {
+		return getGenome().getActiveInt(chromosomeType);
+	}
+
+	/**
+	 * @return The integer value of the inactive allele of the chromosome with the given type.
+	 * @throws IllegalArgumentException If the allele has no integer value.
+	 */
+	default int getInactiveInt(IChromosomeType chromosomeType) {
+		return getGenome().getInactiveValue(chromosomeType, Integer.class);
+	}
+
+	/**
+	 * @return The float value of the active allele of the chromosome with the given type.
+	 * @throws IllegalArgumentException If the allele has no float value.
+	 */
+	default float getActiveFloat(IChromosomeType chromosomeType) {
+		return getGenome().getActiveFloat(chromosomeType);
+	}
+
+	/**
+	 * @return The float value of the inactive allele of the chromosome with the given type.
+	 * @throws IllegalArgumentException If the allele has no float value.
+	 */
+	default float getInactiveFloat(IChromosomeType chromosomeType) {
+		return getGenome().getInactiveValue(chromosomeType, Float.class);
+	}
+
+	/**
+	 * @return The boolean value of the active allele of the chromosome with the given type.
+	 * @throws IllegalArgumentException If the allele has no boolean value.
+	 */
+	default boolean getActiveBoolean(IChromosomeType chromosomeType) {
+		return getGenome().getActiveBoolean(chromosomeType);
+	}
+
+	/**
+	 * @return The boolean value of the inactive allele of the chromosome with the given type.
+	 * @throws IllegalArgumentException If the allele has no boolean value.
+	 */
+	default boolean getInactiveBoolean(IChromosomeType chromosomeType) {
+		return getGenome().getInactiveValue(chromosomeType, Boolean.class);
+	}
 }
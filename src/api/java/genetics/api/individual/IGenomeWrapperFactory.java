@@ -0,0 +1,106 @@
+package genetics.api.individual;
+
+import genetics.api.IGeneticFactory;
+import genetics.api.alleles.IAllele;
+import genetics.api.root.IIndividualRoot;
+
+/**
+ * Creates the {@link IGenomeWrapper}s of the genomes of one karyotype and provides accessors that read the alleles and
+ * the values of one chromosome type out of these wrappers.
+ * <p>
+ * The default implementation generates a wrapper class for the karyotype that contains a field for the active and the
+ * inactive allele and value of every chromosome type. The values are saved in primitive fields if the value class of
+ * the chromosome type is {@link Integer}, {@link Float} or {@link Boolean}. Every accessor reads one field of that
+ * class, so a accessor that is kept in a static final field can be inlined by the JIT. Wrappers that were created by
+ * another factory are read through the methods of {@link IGenomeWrapper}.
+ * <p>
+ * The factory of a root gets created together with the root and can be get with
+ * {@link IIndividualRoot#getWrapperFactory()} or with {@link IGeneticFactory#getWrapperFactory(IKaryotype)}.
+ */
+public interface IGenomeWrapperFactory {
+	/**
+	 * @return The karyotype of the genomes that this factory can wrap.
+	 */
+	IKaryotype getKaryotype();
+
+	/**
+	 * Creates a wrapper that resolves the alleles of the genome and their values once.
+	 *
+	 * @throws IllegalArgumentException If the genome has a different karyotype than this factory.
+	 */
+	IGenomeWrapper createWrapper(IGenome genome);
+
+	/**
+	 * @return A accessor that reads the alleles of the chromosome with the given type.
+	 */
+	IAlleleAccessor getAlleleAccessor(IChromosomeType type);
+
+	/**
+	 * @return A accessor that reads the integer values of the chromosome with the given type.
+	 * @throws IllegalArgumentException If the value class of the chromosome type is not {@link Integer}.
+	 */
+	IIntAccessor getIntAccessor(IChromosomeType type);
+
+	/**
+	 * @return A accessor that reads the float values of the chromosome with the given type.
+	 * @throws IllegalArgumentException If the value class of the chromosome type is not {@link Float}.
+	 */
+	IFloatAccessor getFloatAccessor(IChromosomeType type);
+
+	/**
+	 * @return A accessor that reads the boolean values of the chromosome with the given type.
+	 * @throws IllegalArgumentException If the value class of the chromosome type is not {@link Boolean}.
+	 */
+	IBooleanAccessor getBooleanAccessor(IChromosomeType type);
+
+	/**
+	 * @return A accessor that reads the values of the chromosome with the given type.
+	 * @throws IllegalArgumentException If the values of the chromosome type are not instances of the given class.
+	 */
+	<V> IValueAccessor<V> getValueAccessor(IChromosomeType type, Class<V> valueClass);
+
+	/**
+	 * Reads the alleles of one chromosome type out of a {@link IGenomeWrapper}.
+	 */
+	interface IAlleleAccessor {
+		IAllele getActive(IGenomeWrapper wrapper);
+
+		IAllele getInactive(IGenomeWrapper wrapper);
+	}
+
+	/**
+	 * Reads the integer values of one chromosome type out of a {@link IGenomeWrapper} without boxing them.
+	 */
+	interface IIntAccessor {
+		int getActive(IGenomeWrapper wrapper);
+
+		int getInactive(IGenomeWrapper wrapper);
+	}
+
+	/**
+	 * Reads the float values of one chromosome type out of a {@link IGenomeWrapper} without boxing them.
+	 */
+	interface IFloatAccessor {
+		float getActive(IGenomeWrapper wrapper);
+
+		float getInactive(IGenomeWrapper wrapper);
+	}
+
+	/**
+	 * Reads the boolean values of one chromosome type out of a {@link IGenomeWrapper} without boxing them.
+	 */
+	interface IBooleanAccessor {
+		boolean getActive(IGenomeWrapper wrapper);
+
+		boolean getInactive(IGenomeWrapper wrapper);
+	}
+
+	/**
+	 * Reads the values of one chromosome type out of a {@link IGenomeWrapper}.
+	 */
+	interface IValueAccessor<V> {
+		V getActive(IGenomeWrapper wrapper);
+
+		V getInactive(IGenomeWrapper wrapper);
+	}
+}
@@ -3,6 +3,8 @@ package genetics.api.individual;
 import javax.annotation.Nullable;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.Random;
+import java.util.SplittableRandom;
 
 import genetics.api.alleles.IAllele;
 import genetics.api.alleles.IAlleleTemplate;
@@ -72,6 +74,22 @@ public interface IKaryotype extends Iterable<IChromosomeType> {
 
 	IGenome templateAsGenome(IAllele[] templateActive, @Nullable IAllele[] templateInactive);
 
+	/**
+	 * Breeds the given amount of offspring out of the two given genomes.
+	 * <p>
+	 * Every chromosome of an offspring is inherited like it would be inherited by
+	 * {@link IChromosome#inheritChromosome(Random, IChromosome)} with the chromosome of the first genome and the
+	 * chromosome of the second genome, but all decisions are taken from the bits of the given random source. This
+	 * is much faster than inheriting every chromosome on its own if many offspring are needed.
+	 *
+	 * @param first  The first parent. Must have this karyotype.
+	 * @param second The second parent. Must have this karyotype.
+	 * @param count  The amount of offspring that should be created.
+	 * @param rand   The random source that is used to decide which alleles get inherited.
+	 * @return A array that contains the genomes of all offspring.
+	 */
+	IGenome[] breed(IGenome first, IGenome second, int count, SplittableRandom rand);
+
 	@Override
 	default Iterator<IChromosomeType> iterator() {
 		return Arrays.stream(getChromosomeTypes()).iterator();
@@ -0,0 +1,48 @@
+package genetics.api.mutation;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Random;
+
+import genetics.api.alleles.IAlleleSpecies;
+import genetics.api.root.components.ComponentKeys;
+import genetics.api.root.components.IRootComponent;
+
+/**
+ * A optional root component that contains the base chances of every mutation of the {@link IMutationContainer} of
+ * the root for every pair of species.
+ * <p>
+ * The base chances of all mutations of a pair are summed up, so a mutation roll is a single random number in the range
+ * from 0 to 100. If the number is less than the sum of the base chances of the first mutations up to and including
+ * the given mutation, the given mutation is the result of the roll.
+ * <p>
+ * The component can be added to a root with {@link ComponentKeys#MUTATION_CHANCES}. The chances are created together
+ * with the mutation container of the root.
+ */
+public interface IMutationChances<M extends IMutation> extends IRootComponent {
+
+	/**
+	 * @return All mutations that can result from breeding the two species, in the order of their registration.
+	 */
+	List<? extends M> getCandidates(IAlleleSpecies parentFirst, IAlleleSpecies parentSecond);
+
+	/**
+	 * @return The sum of the base chances of all mutations that can result from breeding the two species.
+	 */
+	float getTotalChance(IAlleleSpecies parentFirst, IAlleleSpecies parentSecond);
+
+	/**
+	 * @param roll A number in the range from 0 (inclusive) to 100 (exclusive).
+	 * @return The mutation that the roll selects, or null if the roll is not less than the total chance of the pair.
+	 */
+	@Nullable
+	M getMutation(IAlleleSpecies parentFirst, IAlleleSpecies parentSecond, float roll);
+
+	/**
+	 * @return The mutation that a roll of the given random source selects, or null if no mutation was selected.
+	 */
+	@Nullable
+	default M getMutation(IAlleleSpecies parentFirst, IAlleleSpecies parentSecond, Random rand) {
+		return getMutation(parentFirst, parentSecond, rand.nextFloat() * 100.0F);
+	}
+}
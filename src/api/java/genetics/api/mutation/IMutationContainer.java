@@ -2,6 +2,7 @@ package genetics.api.mutation;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Random;
 
 import genetics.api.alleles.IAllele;
 import genetics.api.alleles.IAlleleSpecies;
@@ -15,6 +16,14 @@ public interface IMutationContainer<M extends IMutation> extends IRootComponent
 	 */
 	List<? extends M> getMutations(boolean shuffle);
 
+	/**
+	 * @param rand The random source that determines the order of the mutations.
+	 * @return All registered mutations in a random order. The returned list is only a view and must not be modified.
+	 */
+	default List<? extends M> getMutations(Random rand) {
+		return getMutations(true);
+	}
+
 	/**
 	 * @param other Allele to match mutations against.
 	 * @return All registered mutations the given allele is part of.
@@ -32,5 +41,14 @@ public interface IMutationContainer<M extends IMutation> extends IRootComponent
 	 */
 	List<? extends M> getCombinations(IAlleleSpecies parentFirst, IAlleleSpecies parentSecond, boolean shuffle);
 
+	/**
+	 * @param rand The random source that determines the order of the mutations.
+	 * @return all possible mutations that result from breeding two species in a random order. The returned list is only
+	 * a view and must not be modified.
+	 */
+	default List<? extends M> getCombinations(IAlleleSpecies parentFirst, IAlleleSpecies parentSecond, Random rand) {
+		return getCombinations(parentFirst, parentSecond, true);
+	}
+
 	Collection<? extends M> getPaths(IAllele result, IChromosomeType geneType);
 }
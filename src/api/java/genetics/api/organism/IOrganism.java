@@ -57,4 +57,24 @@ public interface IOrganism<I extends IIndividual> extends ICapabilityProvider {
 	 * @return The allele that is at that position of the genome.
 	 */
 	Optional<IAllele> getAlleleDirectly(IChromosomeType type, boolean active);
+
+	/**
+	 * Gets the active and inactive alleles of several chromosomes at once and creates them if they are absent.
+	 * Implementations read the genome only once for all chromosomes instead of once for every allele.
+	 *
+	 * @param types   The chromosome types of the chromosomes that contain the alleles.
+	 * @param alleles The array to that the alleles are written. The active allele of the chromosome at the index
+	 *                <code>i</code> of the types array is written to the index <code>i * 2</code> and the inactive
+	 *                allele to <code>i * 2 + 1</code>.
+	 * @throws IllegalArgumentException If the array is smaller than twice the amount of chromosome types.
+	 */
+	default void getAlleles(IChromosomeType[] types, IAllele[] alleles) {
+		if (alleles.length < types.length * 2) {
+			throw new IllegalArgumentException("The allele array is too small to contain the alleles of all chromosomes.");
+		}
+		for (int i = 0; i < types.length; i++) {
+			alleles[i * 2] = getAllele(types[i], true);
+			alleles[i * 2 + 1] = getAllele(types[i], false);
+		}
+	}
 }
@@ -14,6 +14,7 @@ import genetics.api.alleles.IAllele;
 import genetics.api.individual.IChromosomeType;
 import genetics.api.individual.IGenome;
 import genetics.api.individual.IGenomeWrapper;
+import genetics.api.individual.IGenomeWrapperFactory;
 import genetics.api.individual.IIndividual;
 import genetics.api.individual.IKaryotype;
 import genetics.api.organism.IOrganismHandler;
@@ -97,10 +98,18 @@ public interface IIndividualRoot<I extends IIndividual> {
 
 	/* Genome */
 
+	/**
+	 * @return The factory that creates the genome wrappers of this root and provides accessors for the alleles and
+	 * values of the chromosome types of the karyotype of this root.
+	 */
+	IGenomeWrapperFactory getWrapperFactory();
+
 	/**
 	 * Creates a wrapper that can be used to give access to the values of the alleles that the genome contains.
 	 */
-	IGenomeWrapper createWrapper(IGenome genome);
+	default IGenomeWrapper createWrapper(IGenome genome) {
+		return getWrapperFactory().createWrapper(genome);
+	}
 
 	/* Individuals */
 
@@ -18,6 +18,7 @@ import genetics.api.GeneticsAPI;
 import genetics.api.IGeneticFactory;
 import genetics.api.alleles.IAllele;
 import genetics.api.individual.IGenome;
+import genetics.api.individual.IGenomeWrapperFactory;
 import genetics.api.individual.IIndividual;
 import genetics.api.individual.IKaryotype;
 import genetics.api.organism.IOrganismType;
@@ -37,6 +38,7 @@ public abstract class IndividualRoot<I extends IIndividual> implements IIndividu
 	protected final IOrganismTypes<I> types;
 	protected final ITemplateContainer templates;
 	protected final IKaryotype karyotype;
+	private final IGenomeWrapperFactory wrapperFactory;
 	private final ImmutableList<I> individualTemplates;
 	private final I defaultMember;
 	private final Map<ComponentKey, IRootComponent> componentByKey;
@@ -47,6 +49,7 @@ public abstract class IndividualRoot<I extends IIndividual> implements IIndividu
 	public IndividualRoot(IKaryotype karyotype, Function<IIndividualRoot<I>, Map<ComponentKey, IRootComponent>> components) {
 		this.definition = GeneticsAPI.apiInstance.getRoot(getUID());
 		this.karyotype = karyotype;
+		this.wrapperFactory = GeneticsAPI.apiInstance.getGeneticFactory().getWrapperFactory(karyotype);
 		this.defaultMember = create(karyotype.getDefaultGenome());
 		this.componentByKey = ImmutableMap.copyOf(components.apply(this));
 		this.types = getComponent(ComponentKeys.TYPES).get();
@@ -64,6 +67,11 @@ public abstract class IndividualRoot<I extends IIndividual> implements IIndividu
 		return create(genome);
 	}
 
+	@Override
+	public IGenomeWrapperFactory getWrapperFactory() {
+		return wrapperFactory;
+	}
+
 	@Override
 	public I getDefaultMember() {
 		return defaultMember;
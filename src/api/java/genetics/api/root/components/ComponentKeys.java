@@ -1,5 +1,6 @@
 package genetics.api.root.components;
 
+import genetics.api.mutation.IMutationChances;
 import genetics.api.mutation.IMutationContainer;
 import genetics.api.mutation.IMutationContainerBuilder;
 import genetics.api.organism.IOrganismTypes;
@@ -19,6 +20,8 @@ public class ComponentKeys {
 	/* Components that are optional. */
 	public static final ComponentKey<IIndividualTranslator, IIndividualTranslatorBuilder> TRANSLATORS = ComponentKey.create("translators", IIndividualTranslator.class);
 	public static final ComponentKey<IMutationContainer, IMutationContainerBuilder> MUTATIONS = ComponentKey.create("mutations", IMutationContainer.class);
+	/* Requires the mutations component. */
+	public static final ComponentKey<IMutationChances, IRootComponentBuilder> MUTATION_CHANCES = ComponentKey.create("mutation_chances", IMutationChances.class);
 	public static final String RESEARCH_COMPONENT = "research";
 
 	private ComponentKeys() {
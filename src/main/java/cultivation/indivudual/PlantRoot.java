@@ -6,7 +6,6 @@ import java.util.function.Function;
 import net.minecraft.nbt.NBTTagCompound;
 
 import genetics.api.individual.IGenome;
-import genetics.api.individual.IGenomeWrapper;
 import genetics.api.individual.IKaryotype;
 import genetics.api.root.IIndividualRoot;
 import genetics.api.root.IndividualRoot;
@@ -36,11 +35,6 @@ public class PlantRoot extends IndividualRoot<Plant> {
 		return new Plant(genome, mate);
 	}
 
-	@Override
-	public IGenomeWrapper createWrapper(IGenome genome) {
-		return null;
-	}
-
 	@Override
 	public String getUID() {
 		return UID;
@@ -17,6 +17,7 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
 import genetics.api.GeneticHelper;
+import genetics.api.alleles.IAllele;
 import genetics.api.individual.IChromosomeType;
 import genetics.api.organism.IOrganism;
 import genetics.api.root.IDisplayHelper;
@@ -48,8 +49,11 @@ public class ItemCultivation extends Item {
 		IOrganism<Plant> organism = GeneticHelper.getOrganism(stack);
 		IIndividualRoot root = organism.getRoot();
 		IDisplayHelper displayHelper = root.getDisplayHelper();
-		for (IChromosomeType type : root.getKaryotype()) {
-			tooltip.add(displayHelper.getLocalizedName(type) + ": " + organism.getAllele(type, true).getLocalizedName());
+		IChromosomeType[] types = root.getKaryotype().getChromosomeTypes();
+		IAllele[] alleles = new IAllele[types.length * 2];
+		organism.getAlleles(types, alleles);
+		for (int i = 0; i < types.length; i++) {
+			tooltip.add(displayHelper.getLocalizedName(types[i]) + ": " + alleles[i * 2].getLocalizedName());
 		}
 	}
 
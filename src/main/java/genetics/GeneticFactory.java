@@ -1,6 +1,8 @@
 package genetics;
 
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import net.minecraft.item.ItemStack;
@@ -17,6 +19,8 @@ import genetics.api.alleles.IAlleleTemplateBuilder;
 import genetics.api.individual.IChromosome;
 import genetics.api.individual.IChromosomeType;
 import genetics.api.individual.IGenome;
+import genetics.api.individual.IGenomeWrapper;
+import genetics.api.individual.IGenomeWrapperFactory;
 import genetics.api.individual.IIndividual;
 import genetics.api.individual.IIndividualBuilder;
 import genetics.api.individual.IKaryotype;
@@ -30,8 +34,11 @@ import genetics.api.root.IRootDefinition;
 import genetics.alleles.AlleleTemplate;
 import genetics.alleles.AlleleTemplateBuilder;
 import genetics.individual.Chromosome;
+import genetics.individual.GeneticSaveHandler;
 import genetics.individual.Genome;
+import genetics.individual.GenomeWrapperFactory;
 import genetics.individual.IndividualBuilder;
+import genetics.individual.PackedGenome;
 import genetics.items.GeneTemplate;
 import genetics.organism.Organism;
 import genetics.organism.OrganismHandler;
@@ -40,6 +47,8 @@ import genetics.root.DisplayHelper;
 public enum GeneticFactory implements IGeneticFactory {
 	INSTANCE;
 
+	private final Map<IKaryotype, IGenomeWrapperFactory> wrapperFactories = new ConcurrentHashMap<>();
+
 	@Override
 	public IAlleleTemplateBuilder createTemplateBuilder(IKaryotype karyotype) {
 		return new AlleleTemplateBuilder(karyotype, karyotype.getDefaultTemplate().alleles());
@@ -57,14 +66,27 @@ public enum GeneticFactory implements IGeneticFactory {
 
 	@Override
 	public IGenome createGenome(IKaryotype karyotype, NBTTagCompound compound) {
-		return new Genome(karyotype, compound);
+		return GeneticSaveHandler.INSTANCE.createGenome(karyotype, compound);
 	}
 
 	@Override
 	public IGenome createGenome(IKaryotype karyotype, IChromosome[] chromosomes) {
+		if (PackedGenome.canPack(chromosomes)) {
+			return new PackedGenome(karyotype, chromosomes);
+		}
 		return new Genome(karyotype, chromosomes);
 	}
 
+	@Override
+	public IGenomeWrapper createWrapper(IGenome genome) {
+		return getWrapperFactory(genome.getKaryotype()).createWrapper(genome);
+	}
+
+	@Override
+	public IGenomeWrapperFactory getWrapperFactory(IKaryotype karyotype) {
+		return wrapperFactories.computeIfAbsent(karyotype, GenomeWrapperFactory::new);
+	}
+
 	@Override
 	public IChromosome createChromosome(IAllele allele, IChromosomeType type) {
 		return Chromosome.create(allele, type);
@@ -3,17 +3,21 @@ package genetics.alleles;
 import com.google.common.collect.HashMultimap;
 
 import javax.annotation.Nullable;
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import net.minecraft.util.ResourceLocation;
 
 import net.minecraftforge.registries.ForgeRegistry;
+import net.minecraftforge.registries.IForgeRegistry;
 import net.minecraftforge.registries.RegistryBuilder;
+import net.minecraftforge.registries.RegistryManager;
 
 import genetics.api.alleles.AlleleCategorized;
 import genetics.api.alleles.IAllele;
@@ -37,13 +41,61 @@ public class AlleleRegistry implements IAlleleRegistry {
 	 * Internal Set of all alleleHandlers, which trigger when an allele or branch is registered
 	 */
 	private final Set<IAlleleHandler> handlers = new HashSet<>();
+	/*
+	 * Array that contains every registered allele at the position of its id. Gets recreated if it is requested after an
+	 * allele was added to the registry. Only used before the registry is frozen, afterwards the table of the snapshot
+	 * is used.
+	 */
+	@Nullable
+	private volatile IAllele[] alleleTable = null;
+	/*
+	 * True after every plugin finished its registration. The caches below are only used if the registry is frozen.
+	 */
+	private volatile boolean frozen = false;
+	/*
+	 * The validity of every allele of a allele table for the chromosome types that were checked since the table was
+	 * created. Gets recreated if the allele table changes.
+	 */
+	@Nullable
+	private volatile ValidityTable validityTable = null;
+	/*
+	 * Published when the registry gets frozen and republished by the bake callback after the ids of the registry
+	 * changed. Null while the registry gets remapped. Readers never create it, so a reader can't publish a snapshot of
+	 * a partially remapped registry.
+	 */
+	@Nullable
+	private volatile AlleleSnapshot snapshot = null;
 
 	public AlleleRegistry() {
 		@SuppressWarnings("unchecked")
 		RegistryBuilder<IAllele> builder = new RegistryBuilder()
 			.setMaxID(ALLELE_ARRAY_SIZE)
 			.setName(new ResourceLocation(Genetics.MOD_ID, "alleles"))
-			.setType(IAllele.class);
+			.setType(IAllele.class)
+			.add((IForgeRegistry.AddCallback<IAllele>) (owner, stage, id, obj, oldObj) -> {
+				//Only the active registry contains the ids that are used by the game
+				if (stage == RegistryManager.ACTIVE) {
+					alleleTable = null;
+					snapshot = null;
+					if (oldObj != null && oldObj != obj) {
+						oldObj.setId(-1);
+					}
+					obj.setId(id);
+				}
+			})
+			.add((IForgeRegistry.ClearCallback<IAllele>) (owner, stage) -> {
+				if (stage == RegistryManager.ACTIVE) {
+					alleleTable = null;
+					snapshot = null;
+					owner.getValuesCollection().forEach(allele -> allele.setId(-1));
+				}
+			})
+			.add((IForgeRegistry.BakeCallback<IAllele>) (owner, stage) -> {
+				//Called after the registry was loaded or synced and every id is final
+				if (stage == RegistryManager.ACTIVE) {
+					publishSnapshot();
+				}
+			});
 		//Cast the registry to the class type so we can get the ids of the alleles
 		this.registry = (ForgeRegistry<IAllele>) builder.create();
 	}
@@ -94,6 +146,7 @@ public class AlleleRegistry implements IAlleleRegistry {
 			allelesByType.put(chromosomeType, allele);
 			typesByAllele.put(allele, chromosomeType);
 		}
+		publishSnapshot();
 		return this;
 	}
 
@@ -104,7 +157,24 @@ public class AlleleRegistry implements IAlleleRegistry {
 
 	@Override
 	public Collection<IAllele> getRegisteredAlleles(IChromosomeType type) {
-		return allelesByType.get(type);
+		AlleleSnapshot snapshot = getSnapshot();
+		if (snapshot != null) {
+			return snapshot.getRegisteredAlleles(type);
+		}
+		return Collections.unmodifiableSet(allelesByType.get(type));
+	}
+
+	@Override
+	public int[] getRegisteredAlleleIds(IChromosomeType type) {
+		AlleleSnapshot snapshot = getSnapshot();
+		if (snapshot != null) {
+			return snapshot.getRegisteredAlleleIds(type);
+		}
+		return allelesByType.get(type).stream()
+			.mapToInt(this::getId)
+			.filter(id -> id >= 0)
+			.sorted()
+			.toArray();
 	}
 
 	@Override
@@ -112,9 +182,59 @@ public class AlleleRegistry implements IAlleleRegistry {
 		return Optional.ofNullable(registry.getValue(location));
 	}
 
+	@Override
+	public Optional<IAllele> getAllele(String registryName) {
+		AlleleSnapshot snapshot = getSnapshot();
+		IAllele allele = snapshot == null ? null : snapshot.getAllele(registryName);
+		if (allele == null) {
+			//The snapshot only contains the exact registry names, the resource location normalizes the name
+			return getAllele(new ResourceLocation(registryName));
+		}
+		return Optional.of(allele);
+	}
+
 	@Override
 	public boolean isValidAllele(IAllele allele, IChromosomeType type) {
-		return type.isValid(allele);
+		AlleleSnapshot snapshot = getSnapshot();
+		if (snapshot == null) {
+			return type.isValid(allele);
+		}
+		IAllele[] table = snapshot.getAlleleTable();
+		ValidityTable validity = validityTable;
+		if (validity == null || validity.alleleTable != table) {
+			validity = new ValidityTable(table);
+			validityTable = validity;
+		}
+		int id = getId(allele);
+		if (id < 0 || id >= table.length || table[id] != allele) {
+			return type.isValid(allele);
+		}
+		return validity.getValidAlleles(type).get(id);
+	}
+
+	/**
+	 * Freezes the registry after every plugin has registered its alleles. After that the results of the validity checks
+	 * get cached for every allele id.
+	 */
+	public void freeze() {
+		this.frozen = true;
+		publishSnapshot();
+	}
+
+	/**
+	 * Creates the snapshot out of the current state of the registry and publishes it, if the registry is frozen. This
+	 * is the only place that creates snapshots.
+	 */
+	private synchronized void publishSnapshot() {
+		if (!frozen) {
+			snapshot = null;
+			return;
+		}
+		snapshot = new AlleleSnapshot(createAlleleTable(), allelesByType, blacklist);
+	}
+
+	public boolean isFrozen() {
+		return frozen;
 	}
 
 	@Override
@@ -128,6 +248,17 @@ public class AlleleRegistry implements IAlleleRegistry {
 	}
 
 	public int getId(IAllele allele) {
+		int stampedId = allele.getId();
+		if (stampedId >= 0) {
+			return stampedId;
+		}
+		AlleleSnapshot snapshot = getSnapshot();
+		if (snapshot != null) {
+			int id = snapshot.getId(allele);
+			if (id >= 0) {
+				return id;
+			}
+		}
 		return registry.getID(allele);
 	}
 
@@ -137,15 +268,99 @@ public class AlleleRegistry implements IAlleleRegistry {
 
 	@Nullable
 	public IAllele getAllele(int id) {
+		AlleleSnapshot snapshot = getSnapshot();
+		if (snapshot != null) {
+			return snapshot.getAllele(id);
+		}
 		return registry.getValue(id);
 	}
 
+	/**
+	 * @return A immutable snapshot of the ids of all alleles, or null if the registry is not frozen yet or gets
+	 * remapped at the moment.
+	 */
+	@Nullable
+	public AlleleSnapshot getSnapshot() {
+		return frozen ? snapshot : null;
+	}
+
+	/**
+	 * Returns a array that contains every registered allele at the position of its id.
+	 * <p>
+	 * The array must not be modified. A new array gets created if alleles were added or the ids were remapped since the
+	 * last call, so holders of an old array can still resolve the ids they got from it.
+	 *
+	 * @return The table, or null if the registry is frozen and gets remapped at the moment. Callers have to resolve
+	 * the alleles with the registry in that case.
+	 */
+	@Nullable
+	public IAllele[] getAlleleTable() {
+		if (frozen) {
+			AlleleSnapshot current = snapshot;
+			return current != null ? current.getAlleleTable() : null;
+		}
+		IAllele[] table = alleleTable;
+		if (table == null) {
+			table = createAlleleTable();
+			alleleTable = table;
+		}
+		return table;
+	}
+
+	private IAllele[] createAlleleTable() {
+		int maxId = -1;
+		for (IAllele allele : registry.getValuesCollection()) {
+			maxId = Math.max(maxId, registry.getID(allele));
+		}
+		IAllele[] table = new IAllele[maxId + 1];
+		for (IAllele allele : registry.getValuesCollection()) {
+			int id = registry.getID(allele);
+			if (id >= 0) {
+				table[id] = allele;
+			}
+		}
+		return table;
+	}
+
+	/**
+	 * Contains a bit set for every chromosome type that marks the ids of every allele of a allele table that is valid for
+	 * the chromosome type.
+	 */
+	private static final class ValidityTable {
+		private final IAllele[] alleleTable;
+		private final Map<IChromosomeType, BitSet> validAlleles = new ConcurrentHashMap<>();
+
+		private ValidityTable(IAllele[] alleleTable) {
+			this.alleleTable = alleleTable;
+		}
+
+		private BitSet getValidAlleles(IChromosomeType type) {
+			BitSet validAlleles = this.validAlleles.get(type);
+			if (validAlleles == null) {
+				validAlleles = this.validAlleles.computeIfAbsent(type, this::createValidAlleles);
+			}
+			return validAlleles;
+		}
+
+		private BitSet createValidAlleles(IChromosomeType type) {
+			BitSet validAlleles = new BitSet(alleleTable.length);
+			for (int id = 0; id < alleleTable.length; id++) {
+				IAllele allele = alleleTable[id];
+				if (allele != null && type.isValid(allele)) {
+					validAlleles.set(id);
+				}
+			}
+			return validAlleles;
+		}
+	}
+
 	/* BLACKLIST */
-	private final ArrayList<String> blacklist = new ArrayList<>();
+	private final Set<String> blacklist = new HashSet<>();
 
 	@Override
 	public void blacklistAllele(String registryName) {
 		blacklist.add(registryName);
+		publishSnapshot();
 	}
 
 	@Override
@@ -158,4 +373,16 @@ public class AlleleRegistry implements IAlleleRegistry {
 		return blacklist.contains(registryName);
 	}
 
+	@Override
+	public boolean isBlacklisted(IAllele allele) {
+		AlleleSnapshot snapshot = getSnapshot();
+		if (snapshot != null) {
+			int id = getId(allele);
+			if (id >= 0 && snapshot.getAllele(id) == allele) {
+				return snapshot.isBlacklisted(id);
+			}
+		}
+		return isBlacklisted(allele.getRegistryName());
+	}
+
 }
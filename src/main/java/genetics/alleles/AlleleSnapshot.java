@@ -0,0 +1,224 @@
+package genetics.alleles;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Multimap;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.util.ResourceLocation;
+
+import genetics.api.alleles.IAllele;
+import genetics.api.alleles.IAlleleValue;
+import genetics.api.individual.IChromosomeType;
+
+/**
+ * A immutable copy of the ids, the registry names, the chromosome types, the blacklist and the primitive values of
+ * every allele of the {@link AlleleRegistry}.
+ * <p>
+ * The snapshot gets created after every plugin has registered its alleles and gets recreated if the ids of the
+ * registry change. It can be read from any thread without locking.
+ */
+public final class AlleleSnapshot {
+	private static final int[] EMPTY_IDS = new int[0];
+
+	/* Every registered allele at the position of its id. */
+	private final IAllele[] alleleTable;
+	/* Never modified after the construction, so it is safe to read it from multiple threads. */
+	private final Map<IAllele, Integer> idByAllele;
+	private final ImmutableMap<String, IAllele> alleleByName;
+	/* The sorted ids of the registered alleles of every chromosome type. */
+	private final ImmutableMap<IChromosomeType, int[]> idsByType;
+	/* The registered alleles of every chromosome type in the order of their ids. */
+	private final ImmutableMap<IChromosomeType, ImmutableList<IAllele>> allelesByType;
+
+	/* The ids of all blacklisted alleles. */
+	private final BitSet blacklist;
+
+	/* The values of all alleles with a integer, float or boolean value at the position of their id. */
+	private final int[] intValues;
+	private final float[] floatValues;
+	private final boolean[] booleanValues;
+	/* The ids of all alleles that have a value in the table of the same type. */
+	private final BitSet intIds;
+	private final BitSet floatIds;
+	private final BitSet booleanIds;
+
+	AlleleSnapshot(IAllele[] alleleTable, Multimap<IChromosomeType, IAllele> registeredAlleles, Set<String> blacklist) {
+		this.alleleTable = alleleTable;
+		this.idByAllele = new IdentityHashMap<>(alleleTable.length);
+		ImmutableMap.Builder<String, IAllele> alleleByName = ImmutableMap.builder();
+		for (int id = 0; id < alleleTable.length; id++) {
+			IAllele allele = alleleTable[id];
+			if (allele == null) {
+				continue;
+			}
+			idByAllele.put(allele, id);
+			ResourceLocation registryName = allele.getRegistryName();
+			if (registryName != null) {
+				alleleByName.put(registryName.toString(), allele);
+			}
+		}
+		this.alleleByName = alleleByName.build();
+		ImmutableMap.Builder<IChromosomeType, int[]> idsByType = ImmutableMap.builder();
+		ImmutableMap.Builder<IChromosomeType, ImmutableList<IAllele>> allelesByType = ImmutableMap.builder();
+		for (Map.Entry<IChromosomeType, Collection<IAllele>> entry : registeredAlleles.asMap().entrySet()) {
+			int[] ids = createIds(entry.getValue());
+			ImmutableList.Builder<IAllele> alleles = ImmutableList.builder();
+			for (int id : ids) {
+				alleles.add(alleleTable[id]);
+			}
+			idsByType.put(entry.getKey(), ids);
+			allelesByType.put(entry.getKey(), alleles.build());
+		}
+		this.idsByType = idsByType.build();
+		this.allelesByType = allelesByType.build();
+		this.blacklist = new BitSet(alleleTable.length);
+		for (String registryName : blacklist) {
+			IAllele allele = this.alleleByName.get(registryName);
+			if (allele != null) {
+				this.blacklist.set(getId(allele));
+			}
+		}
+		this.intValues = new int[alleleTable.length];
+		this.floatValues = new float[alleleTable.length];
+		this.booleanValues = new boolean[alleleTable.length];
+		this.intIds = new BitSet(alleleTable.length);
+		this.floatIds = new BitSet(alleleTable.length);
+		this.booleanIds = new BitSet(alleleTable.length);
+		for (int id = 0; id < alleleTable.length; id++) {
+			IAllele allele = alleleTable[id];
+			if (!(allele instanceof IAlleleValue)) {
+				continue;
+			}
+			Object value = ((IAlleleValue) allele).getValue();
+			if (value instanceof Integer) {
+				intValues[id] = (Integer) value;
+				intIds.set(id);
+			} else if (value instanceof Float) {
+				floatValues[id] = (Float) value;
+				floatIds.set(id);
+			} else if (value instanceof Boolean) {
+				booleanValues[id] = (Boolean) value;
+				booleanIds.set(id);
+			}
+		}
+	}
+
+	private int[] createIds(Collection<IAllele> alleles) {
+		int[] ids = new int[alleles.size()];
+		int count = 0;
+		for (IAllele allele : alleles) {
+			int id = getId(allele);
+			if (id >= 0) {
+				ids[count++] = id;
+			}
+		}
+		ids = Arrays.copyOf(ids, count);
+		Arrays.sort(ids);
+		return ids;
+	}
+
+	/**
+	 * @return The array of the allele registry that this snapshot was created from.
+	 */
+	IAllele[] getAlleleTable() {
+		return alleleTable;
+	}
+
+	/**
+	 * @return The id of the allele or -1 if the allele was not registered when this snapshot was created.
+	 */
+	public int getId(IAllele allele) {
+		Integer id = idByAllele.get(allele);
+		return id == null ? -1 : id;
+	}
+
+	@Nullable
+	public IAllele getAllele(int id) {
+		return id >= 0 && id < alleleTable.length ? alleleTable[id] : null;
+	}
+
+	@Nullable
+	public IAllele getAllele(String registryName) {
+		return alleleByName.get(registryName);
+	}
+
+	/**
+	 * @return The sorted ids of the registered alleles of the chromosome type. The array must not be modified.
+	 */
+	public int[] getRegisteredAlleleIds(IChromosomeType type) {
+		int[] ids = idsByType.get(type);
+		return ids == null ? EMPTY_IDS : ids;
+	}
+
+	/**
+	 * @return The registered alleles of the chromosome type in the order of their ids.
+	 */
+	public ImmutableList<IAllele> getRegisteredAlleles(IChromosomeType type) {
+		ImmutableList<IAllele> alleles = allelesByType.get(type);
+		return alleles == null ? ImmutableList.of() : alleles;
+	}
+
+	/**
+	 * @return True if the allele with the given id is blacklisted.
+	 */
+	public boolean isBlacklisted(int id) {
+		return id >= 0 && blacklist.get(id);
+	}
+
+	/**
+	 * @return True if the allele with the given id has a integer value.
+	 */
+	public boolean hasIntValue(int id) {
+		return id >= 0 && intIds.get(id);
+	}
+
+	/**
+	 * @return The integer value of the allele with the given id. Only valid if {@link #hasIntValue(int)} is true.
+	 */
+	public int getIntValue(int id) {
+		return intValues[id];
+	}
+
+	/**
+	 * @return True if the allele with the given id has a float value.
+	 */
+	public boolean hasFloatValue(int id) {
+		return id >= 0 && floatIds.get(id);
+	}
+
+	/**
+	 * @return The float value of the allele with the given id. Only valid if {@link #hasFloatValue(int)} is true.
+	 */
+	public float getFloatValue(int id) {
+		return floatValues[id];
+	}
+
+	/**
+	 * @return True if the allele with the given id has a boolean value.
+	 */
+	public boolean hasBooleanValue(int id) {
+		return id >= 0 && booleanIds.get(id);
+	}
+
+	/**
+	 * @return The boolean value of the allele with the given id. Only valid if {@link #hasBooleanValue(int)} is true.
+	 */
+	public boolean getBooleanValue(int id) {
+		return booleanValues[id];
+	}
+
+	/**
+	 * @return The length of the allele table, one more than the highest id of all alleles.
+	 */
+	public int size() {
+		return alleleTable.length;
+	}
+}
@@ -0,0 +1,67 @@
+package genetics.individual;
+
+import javax.annotation.Nullable;
+
+import genetics.api.alleles.IAllele;
+import genetics.api.individual.IChromosomeType;
+
+import genetics.ApiInstance;
+import genetics.alleles.AlleleRegistry;
+import genetics.alleles.AlleleSnapshot;
+import genetics.utils.AlleleUtils;
+
+/**
+ * Reads the primitive values of alleles from the value tables of the {@link AlleleSnapshot} and only falls back to
+ * {@link AlleleUtils#getAlleleValue} if the allele is not part of the snapshot.
+ */
+final class AlleleValues {
+	private AlleleValues() {
+	}
+
+	@Nullable
+	private static AlleleSnapshot getSnapshot() {
+		AlleleRegistry registry = ApiInstance.INSTANCE.alleleRegistry;
+		return registry == null ? null : registry.getSnapshot();
+	}
+
+	/**
+	 * @param id The id of the allele, or -1 if it is unknown.
+	 */
+	static int getActiveInt(IAllele allele, int id, IChromosomeType chromosomeType) {
+		AlleleSnapshot snapshot = getSnapshot();
+		if (snapshot != null && snapshot.hasIntValue(id) && snapshot.getAllele(id) == allele) {
+			return snapshot.getIntValue(id);
+		}
+		return getActiveValue(allele, chromosomeType, Integer.class);
+	}
+
+	/**
+	 * @param id The id of the allele, or -1 if it is unknown.
+	 */
+	static float getActiveFloat(IAllele allele, int id, IChromosomeType chromosomeType) {
+		AlleleSnapshot snapshot = getSnapshot();
+		if (snapshot != null && snapshot.hasFloatValue(id) && snapshot.getAllele(id) == allele) {
+			return snapshot.getFloatValue(id);
+		}
+		return getActiveValue(allele, chromosomeType, Float.class);
+	}
+
+	/**
+	 * @param id The id of the allele, or -1 if it is unknown.
+	 */
+	static boolean getActiveBoolean(IAllele allele, int id, IChromosomeType chromosomeType) {
+		AlleleSnapshot snapshot = getSnapshot();
+		if (snapshot != null && snapshot.hasBooleanValue(id) && snapshot.getAllele(id) == allele) {
+			return snapshot.getBooleanValue(id);
+		}
+		return getActiveValue(allele, chromosomeType, Boolean.class);
+	}
+
+	private static <V> V getActiveValue(IAllele allele, IChromosomeType chromosomeType, Class<? extends V> valueClass) {
+		V value = AlleleUtils.getAlleleValue(allele, valueClass, null);
+		if (value == null) {
+			throw new IllegalArgumentException(String.format("The allele '%s' at the active position of the chromosome type '%s' has no value.", allele, chromosomeType));
+		}
+		return value;
+	}
+}
@@ -2,8 +2,10 @@ package genetics.individual;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.ResourceLocation;
@@ -18,19 +20,25 @@ import genetics.api.root.ITemplateContainer;
 
 import genetics.ApiInstance;
 
+/**
+ * The default implementation of {@link IChromosome}.
+ * <p>
+ * Every chromosome is interned, so every factory method returns the same instance for the same type, active allele
+ * and inactive allele. The amount of instances is limited by the amount of alleles that were registered for a type.
+ */
 @Immutable
 public class Chromosome implements IChromosome {
 	private static final String ACTIVE_ALLELE_TAG = "UID0";
 	private static final String INACTIVE_ALLELE_TAG = "UID1";
+	/**
+	 * The canonical instances of all chromosomes that were created so far indexed by the type, the active allele and
+	 * the inactive allele of the chromosome.
+	 */
+	private static final Map<IChromosomeType, Map<IAllele, Map<IAllele, Chromosome>>> INSTANCES = new ConcurrentHashMap<>();
 	private final IAllele active;
 	private final IAllele inactive;
 	private final IChromosomeType type;
 
-	private Chromosome(IAllele allele, IChromosomeType type) {
-		this.active = inactive = allele;
-		this.type = type;
-	}
-
 	private Chromosome(IAllele active, IAllele inactive, IChromosomeType type) {
 		this.active = active;
 		this.inactive = inactive;
@@ -52,7 +60,7 @@ public class Chromosome implements IChromosome {
 		firstAllele = validateAllele(primaryTemplateIdentifier, type, firstAllele);
 		secondAllele = validateAllele(secondaryTemplateIdentifier, type, secondAllele);
 
-		return new Chromosome(firstAllele, secondAllele, type);
+		return intern(firstAllele, secondAllele, type);
 	}
 
 	@Nullable
@@ -81,7 +89,40 @@ public class Chromosome implements IChromosome {
 	}
 
 	public static Chromosome create(IAllele allele, IChromosomeType geneType) {
-		return new Chromosome(allele, geneType);
+		return intern(allele, allele, geneType);
+	}
+
+	/**
+	 * Creates a chromosome that has exactly the given active and inactive allele, without validating or reordering
+	 * them.
+	 */
+	static Chromosome of(IAllele active, IAllele inactive, IChromosomeType geneType) {
+		return intern(active, inactive, geneType);
+	}
+
+	/**
+	 * Returns the canonical instance of the chromosome with the given type and alleles and creates it if it is absent.
+	 * <p>
+	 * Chromosomes with a missing allele are never interned, so {@link Genome} can still report them.
+	 */
+	@SuppressWarnings("ConstantConditions")
+	private static Chromosome intern(@Nullable IAllele active, @Nullable IAllele inactive, IChromosomeType type) {
+		if (active == null || inactive == null) {
+			return new Chromosome(active, inactive, type);
+		}
+		Map<IAllele, Map<IAllele, Chromosome>> chromosomesByActive = INSTANCES.get(type);
+		if (chromosomesByActive == null) {
+			chromosomesByActive = INSTANCES.computeIfAbsent(type, key -> new ConcurrentHashMap<>());
+		}
+		Map<IAllele, Chromosome> chromosomesByInactive = chromosomesByActive.get(active);
+		if (chromosomesByInactive == null) {
+			chromosomesByInactive = chromosomesByActive.computeIfAbsent(active, key -> new ConcurrentHashMap<>());
+		}
+		Chromosome chromosome = chromosomesByInactive.get(inactive);
+		if (chromosome == null) {
+			chromosome = chromosomesByInactive.computeIfAbsent(inactive, key -> new Chromosome(active, inactive, type));
+		}
+		return chromosome;
 	}
 
 	static Optional<IAllele> getActiveAllele(NBTTagCompound chromosomeNBT) {
@@ -116,6 +157,9 @@ public class Chromosome implements IChromosome {
 
 	@Override
 	public boolean isGeneticEqual(IChromosome other) {
+		if (other == this) {
+			return true;
+		}
 		if (!active.equals(other.getActiveAllele())) {
 			return false;
 		}
@@ -155,7 +199,7 @@ public class Chromosome implements IChromosome {
 	public static Chromosome create(IAllele firstAllele, IAllele secondAllele, IChromosomeType geneType) {
 		firstAllele = getActiveAllele(firstAllele, secondAllele);
 		secondAllele = getInactiveAllele(firstAllele, secondAllele);
-		return new Chromosome(firstAllele, secondAllele, geneType);
+		return intern(firstAllele, secondAllele, geneType);
 	}
 
 	private static IAllele getActiveAllele(IAllele firstAllele, IAllele secondAllele) {
@@ -0,0 +1,108 @@
+package genetics.individual;
+
+import genetics.api.alleles.IAllele;
+import genetics.api.alleles.IAlleleValue;
+import genetics.api.individual.IChromosomeType;
+import genetics.api.individual.IGenome;
+import genetics.api.individual.IGenomeWrapper;
+
+/**
+ * The super class of the wrapper classes that the {@link GenomeWrapperGenerator} generates for every karyotype.
+ * <p>
+ * The generated class of a karyotype contains a public field for the active and the inactive allele and value of every
+ * chromosome type and fills them in its constructor with the static methods of this class. The methods and the
+ * constructor are public, because the generated classes are defined by a own class loader and can't access package
+ * private members.
+ * <p>
+ * The generated class overrides the value methods of this class with a switch over the index of the chromosome type
+ * and only calls them for types that have no field of that value type.
+ */
+public abstract class GeneratedGenomeWrapper implements IGenomeWrapper {
+	private final IGenome genome;
+	/* The active and inactive alleles of every chromosome interleaved. */
+	private final IAllele[] alleles;
+
+	/**
+	 * @param alleles The active and inactive alleles of every chromosome of the genome interleaved.
+	 */
+	public GeneratedGenomeWrapper(IGenome genome, IAllele[] alleles) {
+		this.genome = genome;
+		this.alleles = alleles;
+	}
+
+	@Override
+	public IGenome getGenome() {
+		return genome;
+	}
+
+	@Override
+	public IAllele getActiveAllele(IChromosomeType chromosomeType) {
+		return alleles[chromosomeType.getIndex() * 2];
+	}
+
+	@Override
+	public IAllele getInactiveAllele(IChromosomeType chromosomeType) {
+		return alleles[chromosomeType.getIndex() * 2 + 1];
+	}
+
+	@Override
+	public int getActiveInt(IChromosomeType chromosomeType) {
+		return genome.getActiveInt(chromosomeType);
+	}
+
+	@Override
+	public int getInactiveInt(IChromosomeType chromosomeType) {
+		return genome.getInactiveValue(chromosomeType, Integer.class);
+	}
+
+	@Override
+	public float getActiveFloat(IChromosomeType chromosomeType) {
+		return genome.getActiveFloat(chromosomeType);
+	}
+
+	@Override
+	public float getInactiveFloat(IChromosomeType chromosomeType) {
+		return genome.getInactiveValue(chromosomeType, Float.class);
+	}
+
+	@Override
+	public boolean getActiveBoolean(IChromosomeType chromosomeType) {
+		return genome.getActiveBoolean(chromosomeType);
+	}
+
+	@Override
+	public boolean getInactiveBoolean(IChromosomeType chromosomeType) {
+		return genome.getInactiveValue(chromosomeType, Boolean.class);
+	}
+
+	public static Object getValue(IAllele allele) {
+		if (!(allele instanceof IAlleleValue)) {
+			throw new IllegalArgumentException(String.format("The allele '%s' has no value.", allele));
+		}
+		Object value = ((IAlleleValue) allele).getValue();
+		if (value == null) {
+			throw new IllegalArgumentException(String.format("The allele '%s' has no value.", allele));
+		}
+		return value;
+	}
+
+	public static int getIntValue(IAllele allele) {
+		return getValue(allele, Integer.class);
+	}
+
+	public static float getFloatValue(IAllele allele) {
+		return getValue(allele, Float.class);
+	}
+
+	public static boolean getBooleanValue(IAllele allele) {
+		return getValue(allele, Boolean.class);
+	}
+
+	private static <V> V getValue(IAllele allele, Class<V> valueClass) {
+		Object value = getValue(allele);
+		if (!valueClass.isInstance(value)) {
+			throw new IllegalArgumentException(String.format("The value of the allele '%s' is no instance of '%s'.", allele, valueClass.getSimpleName()));
+		}
+		return valueClass.cast(value);
+	}
+}
@@ -1,8 +1,10 @@
 package genetics.individual;
 
 import javax.annotation.Nullable;
+import java.util.Arrays;
 
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagCompound;
 
 import genetics.api.GeneticHelper;
@@ -41,7 +43,52 @@ public enum GeneticSaveHandler implements IGeneticSaveHandler {
 		return format.readTag(karyotype, tagCompound);
 	}
 
+	/**
+	 * @return A genome that only decodes its chromosomes if they are requested and may be shared with other
+	 * individuals, or null if the format of the given compound does not support it.
+	 */
+	@Nullable
+	public IGenome createLazyGenome(IKaryotype karyotype, NBTTagCompound tagCompound) {
+		SaveFormat format = getFormat(tagCompound);
+		return format.createLazyGenome(karyotype, tagCompound);
+	}
+
+	/**
+	 * Creates a genome out of the NBT-Data. Creates a lazy genome if the format supports it and otherwise decodes the
+	 * NBT-Data only once. The format of the NBT-Data is only detected once.
+	 */
+	public IGenome createGenome(IKaryotype karyotype, NBTTagCompound tagCompound) {
+		SaveFormat format = getFormat(tagCompound);
+		IGenome lazyGenome = format.createLazyGenome(karyotype, tagCompound);
+		if (lazyGenome != null) {
+			return lazyGenome;
+		}
+		IChromosome[] chromosomes = format.readTag(karyotype, tagCompound);
+		if (PackedGenome.canPack(chromosomes)) {
+			return new PackedGenome(karyotype, chromosomes);
+		}
+		return new Genome(karyotype, chromosomes, false);
+	}
+
+	/**
+	 * @return The tag of the genome of the given individual compound that contains the encoded chromosomes, or null if
+	 * the compound contains no genome. Writing a genome always replaces this tag.
+	 */
+	@Nullable
+	public NBTBase getGenomeData(NBTTagCompound individualNBT) {
+		NBTBase genomeNBT = individualNBT.getTag(GENOME_TAG);
+		if (!(genomeNBT instanceof NBTTagCompound)) {
+			return null;
+		}
+		NBTTagCompound genomeCompound = (NBTTagCompound) genomeNBT;
+		return getFormat(genomeCompound).getData(genomeCompound);
+	}
+
 	private SaveFormat getFormat(NBTTagCompound tagCompound) {
+		//Fast path for the format that is used by nearly every genome
+		if (SaveFormat.BINARY.canLoad(tagCompound)) {
+			return SaveFormat.BINARY;
+		}
 		for (SaveFormat format : SaveFormat.values()) {
 			if (format.canLoad(tagCompound)) {
 				return format;
@@ -83,6 +130,49 @@ public enum GeneticSaveHandler implements IGeneticSaveHandler {
 		return allele;
 	}
 
+	@Override
+	public void getAllelesDirectly(NBTTagCompound genomeNBT, IChromosomeType[] chromosomeTypes, IAllele[] alleles) {
+		checkAlleleArray(chromosomeTypes, alleles);
+		SaveFormat format = getFormat(genomeNBT);
+		format.readAlleles(genomeNBT, chromosomeTypes, alleles);
+		IAlleleRegistry alleleRegistry = ApiInstance.INSTANCE.getAlleleRegistry();
+		for (int i = 0; i < chromosomeTypes.length * 2; i++) {
+			IAllele allele = alleles[i];
+			if (allele != null && !alleleRegistry.isValidAllele(allele, chromosomeTypes[i / 2])) {
+				alleles[i] = null;
+			}
+		}
+	}
+
+	@Override
+	public boolean getAllelesDirectly(ItemStack itemStack, IOrganismType type, IChromosomeType[] chromosomeTypes, IAllele[] alleles) {
+		checkAlleleArray(chromosomeTypes, alleles);
+		Arrays.fill(alleles, 0, chromosomeTypes.length * 2, null);
+		NBTTagCompound nbtTagCompound = itemStack.getTagCompound();
+		if (chromosomeTypes.length == 0 || nbtTagCompound == null || nbtTagCompound.hasNoTags()) {
+			return false;
+		}
+
+		NBTTagCompound individualNBT = getIndividualDataDirectly(itemStack, type, chromosomeTypes[0].getRoot());
+		if (individualNBT == null || individualNBT.hasNoTags()) {
+			return false;
+		}
+
+		NBTTagCompound genomeNBT = individualNBT.getCompoundTag(GENOME_TAG);
+		if (genomeNBT.hasNoTags()) {
+			return false;
+		}
+		getAllelesDirectly(genomeNBT, chromosomeTypes, alleles);
+		return true;
+	}
+
+	private static void checkAlleleArray(IChromosomeType[] chromosomeTypes, IAllele[] alleles) {
+		if (alleles.length < chromosomeTypes.length * 2) {
+			String message = String.format("Tried to read the alleles of %s chromosomes into an array with the length %s.", chromosomeTypes.length, alleles.length);
+			throw new IllegalArgumentException(message);
+		}
+	}
+
 	// NBT RETRIEVAL
 
 	public IAllele getAllele(ItemStack itemStack, IOrganismType type, IChromosomeType chromosomeType, boolean active) {
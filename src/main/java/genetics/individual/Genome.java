@@ -8,6 +8,7 @@ import net.minecraft.nbt.NBTTagCompound;
 
 import genetics.api.alleles.IAllele;
 import genetics.api.alleles.IAlleleRegistry;
+import genetics.api.individual.Fingerprints;
 import genetics.api.individual.IChromosome;
 import genetics.api.individual.IChromosomeType;
 import genetics.api.individual.IGenome;
@@ -19,22 +20,47 @@ import genetics.utils.AlleleUtils;
 public final class Genome implements IGenome {
 	private final IChromosome[] chromosomes;
 	private final IKaryotype karyotype;
+	private final long fingerprint;
 
 	public Genome(IKaryotype karyotype, NBTTagCompound compound) {
 		this.karyotype = karyotype;
 		this.chromosomes = GeneticSaveHandler.INSTANCE.readTag(karyotype, compound);
+		this.fingerprint = createFingerprint(chromosomes);
 	}
 
 	public Genome(IKaryotype karyotype, IChromosome[] chromosomes) {
 		this.karyotype = karyotype;
-		checkChromosomes(chromosomes);
+		checkChromosomes(karyotype, chromosomes);
 		this.chromosomes = chromosomes;
+		this.fingerprint = createFingerprint(chromosomes);
+	}
+
+	/**
+	 * Creates a genome out of chromosomes that were read from NBT-Data. Like {@link #Genome(IKaryotype, NBTTagCompound)}
+	 * it doesn't check the chromosomes.
+	 */
+	Genome(IKaryotype karyotype, IChromosome[] chromosomes, boolean checked) {
+		this.karyotype = karyotype;
+		if (checked) {
+			checkChromosomes(karyotype, chromosomes);
+		}
+		this.chromosomes = chromosomes;
+		this.fingerprint = createFingerprint(chromosomes);
+	}
+
+	private static long createFingerprint(IChromosome[] chromosomes) {
+		long fingerprint = Fingerprints.BASIS;
+		for (IChromosome chromosome : chromosomes) {
+			fingerprint = Fingerprints.add(fingerprint, chromosome == null ? null : chromosome.getActiveAllele());
+			fingerprint = Fingerprints.add(fingerprint, chromosome == null ? null : chromosome.getInactiveAllele());
+		}
+		return Fingerprints.finish(fingerprint);
 	}
 
 	@SuppressWarnings("all")
-	private void checkChromosomes(IChromosome[] chromosomes) {
+	static void checkChromosomes(IKaryotype karyotype, IChromosome[] chromosomes) {
 		if (chromosomes.length != karyotype.getChromosomeTypes().length) {
-			String message = String.format("Tried to create a genome for '%s' from an invalid chromosome template.\n%s", karyotype.getUID(), chromosomesToString(chromosomes));
+			String message = String.format("Tried to create a genome for '%s' from an invalid chromosome template.\n%s", karyotype.getUID(), chromosomesToString(karyotype, chromosomes));
 			throw new IllegalArgumentException(message);
 		}
 
@@ -45,39 +71,39 @@ public final class Genome implements IGenome {
 			IChromosome chromosome = chromosomes[i];
 			if (chromosome == null) {
 				String message = String.format("Tried to create a genome for '%s' from an invalid chromosome template. " +
-					"Missing chromosome '%s'.\n%s", karyotype.getUID(), chromosomeType.getName(), chromosomesToString(chromosomes));
+					"Missing chromosome '%s'.\n%s", karyotype.getUID(), chromosomeType.getName(), chromosomesToString(karyotype, chromosomes));
 				throw new IllegalArgumentException(message);
 			}
 
 			IAllele primary = chromosome.getActiveAllele();
 			if (primary == null) {
 				String message = String.format("Tried to create a genome for '%s' from an invalid chromosome template. " +
-					"Missing active allele for '%s'.\n%s", karyotype.getUID(), chromosomeType.getName(), chromosomesToString(chromosomes));
+					"Missing active allele for '%s'.\n%s", karyotype.getUID(), chromosomeType.getName(), chromosomesToString(karyotype, chromosomes));
 				throw new IllegalArgumentException(message);
 			}
 
 			IAllele secondary = chromosome.getInactiveAllele();
 			if (secondary == null) {
 				String message = String.format("Tried to create a genome for '%s' from an invalid chromosome template. " +
-					"Missing inactive allele for '%s'.\n%s", karyotype.getUID(), chromosomeType.getName(), chromosomesToString(chromosomes));
+					"Missing inactive allele for '%s'.\n%s", karyotype.getUID(), chromosomeType.getName(), chromosomesToString(karyotype, chromosomes));
 				throw new IllegalArgumentException(message);
 			}
 
 			if (!registry.isValidAllele(primary, chromosomeType)) {
 				String message = String.format("Tried to create a genome for '%s' from an invalid chromosome template. " +
-					"Incorrect type for active allele '%s'.\n%s.", karyotype.getUID(), chromosomeType.getName(), chromosomesToString(chromosomes));
+					"Incorrect type for active allele '%s'.\n%s.", karyotype.getUID(), chromosomeType.getName(), chromosomesToString(karyotype, chromosomes));
 				throw new IllegalArgumentException(message);
 			}
 
 			if (!registry.isValidAllele(secondary, chromosomeType)) {
 				String message = String.format("Tried to create a genome for '%s' from an invalid chromosome template. " +
-					"Incorrect type for inaktive allele '%s'.\n%s.", karyotype.getUID(), chromosomeType.getName(), chromosomesToString(chromosomes));
+					"Incorrect type for inaktive allele '%s'.\n%s.", karyotype.getUID(), chromosomeType.getName(), chromosomesToString(karyotype, chromosomes));
 				throw new IllegalArgumentException(message);
 			}
 		}
 	}
 
-	private String chromosomesToString(IChromosome[] chromosomes) {
+	private static String chromosomesToString(IKaryotype karyotype, IChromosome[] chromosomes) {
 		StringBuilder stringBuilder = new StringBuilder();
 		IChromosomeType[] chromosomeTypes = karyotype.getChromosomeTypes();
 		for (int i = 0; i < chromosomes.length; i++) {
@@ -117,6 +143,24 @@ public final class Genome implements IGenome {
 		return value;
 	}
 
+	@Override
+	public int getActiveInt(IChromosomeType chromosomeType) {
+		IAllele allele = getActiveAllele(chromosomeType);
+		return AlleleValues.getActiveInt(allele, allele.getId(), chromosomeType);
+	}
+
+	@Override
+	public float getActiveFloat(IChromosomeType chromosomeType) {
+		IAllele allele = getActiveAllele(chromosomeType);
+		return AlleleValues.getActiveFloat(allele, allele.getId(), chromosomeType);
+	}
+
+	@Override
+	public boolean getActiveBoolean(IChromosomeType chromosomeType) {
+		IAllele allele = getActiveAllele(chromosomeType);
+		return AlleleValues.getActiveBoolean(allele, allele.getId(), chromosomeType);
+	}
+
 	@Override
 	public <V> V getInactiveValue(IChromosomeType chromosomeType, Class<? extends V> valueClass) {
 		IAllele allele = getInactiveAllele(chromosomeType);
@@ -166,9 +210,20 @@ public final class Genome implements IGenome {
 		return chromosome.isPureBred();
 	}
 
+	@Override
+	public long getFingerprint() {
+		return fingerprint;
+	}
+
 	@Override
 	public boolean isGeneticEqual(IGenome other) {
-		IChromosome[] otherChromosomes = other.getChromosomes();
+		if (other == this) {
+			return true;
+		}
+		if (other.getFingerprint() != fingerprint) {
+			return false;
+		}
+		IChromosome[] otherChromosomes = other instanceof Genome ? ((Genome) other).chromosomes : other.getChromosomes();
 		if (chromosomes.length != otherChromosomes.length) {
 			return false;
 		}
@@ -191,6 +246,23 @@ public final class Genome implements IGenome {
 		return true;
 	}
 
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof IGenome)) {
+			return false;
+		}
+		IGenome other = (IGenome) obj;
+		return karyotype == other.getKaryotype() && isGeneticEqual(other);
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(fingerprint);
+	}
+
 	@Override
 	public String toString() {
 		MoreObjects.ToStringHelper toStringHelper = MoreObjects.toStringHelper(this);
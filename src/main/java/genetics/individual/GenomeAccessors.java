@@ -0,0 +1,111 @@
+package genetics.individual;
+
+import genetics.api.alleles.IAllele;
+import genetics.api.individual.IChromosomeType;
+import genetics.api.individual.IGenomeWrapper;
+import genetics.api.individual.IGenomeWrapperFactory;
+
+/**
+ * The accessors of a chromosome type that read the alleles and values with the methods of {@link IGenomeWrapper}.
+ * <p>
+ * They are used if no wrapper class could be generated for a karyotype. The {@link GenomeWrapperGenerator} generates
+ * a sub class of them for every chromosome type that reads the field of the generated wrapper class directly and only
+ * calls the methods of the super class for wrappers of other classes. Because of that the classes and their
+ * constructors are public.
+ */
+public final class GenomeAccessors {
+	private GenomeAccessors() {
+	}
+
+	public static class AlleleAccessor implements IGenomeWrapperFactory.IAlleleAccessor {
+		protected final IChromosomeType type;
+
+		public AlleleAccessor(IChromosomeType type) {
+			this.type = type;
+		}
+
+		@Override
+		public IAllele getActive(IGenomeWrapper wrapper) {
+			return wrapper.getActiveAllele(type);
+		}
+
+		@Override
+		public IAllele getInactive(IGenomeWrapper wrapper) {
+			return wrapper.getInactiveAllele(type);
+		}
+	}
+
+	public static class IntAccessor implements IGenomeWrapperFactory.IIntAccessor {
+		protected final IChromosomeType type;
+
+		public IntAccessor(IChromosomeType type) {
+			this.type = type;
+		}
+
+		@Override
+		public int getActive(IGenomeWrapper wrapper) {
+			return wrapper.getActiveInt(type);
+		}
+
+		@Override
+		public int getInactive(IGenomeWrapper wrapper) {
+			return wrapper.getInactiveInt(type);
+		}
+	}
+
+	public static class FloatAccessor implements IGenomeWrapperFactory.IFloatAccessor {
+		protected final IChromosomeType type;
+
+		public FloatAccessor(IChromosomeType type) {
+			this.type = type;
+		}
+
+		@Override
+		public float getActive(IGenomeWrapper wrapper) {
+			return wrapper.getActiveFloat(type);
+		}
+
+		@Override
+		public float getInactive(IGenomeWrapper wrapper) {
+			return wrapper.getInactiveFloat(type);
+		}
+	}
+
+	public static class BooleanAccessor implements IGenomeWrapperFactory.IBooleanAccessor {
+		protected final IChromosomeType type;
+
+		public BooleanAccessor(IChromosomeType type) {
+			this.type = type;
+		}
+
+		@Override
+		public boolean getActive(IGenomeWrapper wrapper) {
+			return wrapper.getActiveBoolean(type);
+		}
+
+		@Override
+		public boolean getInactive(IGenomeWrapper wrapper) {
+			return wrapper.getInactiveBoolean(type);
+		}
+	}
+
+	public static class ValueAccessor<V> implements IGenomeWrapperFactory.IValueAccessor<V> {
+		protected final IChromosomeType type;
+		private final Class<V> valueClass;
+
+		public ValueAccessor(IChromosomeType type, Class<V> valueClass) {
+			this.type = type;
+			this.valueClass = valueClass;
+		}
+
+		@Override
+		public V getActive(IGenomeWrapper wrapper) {
+			return wrapper.getGenome().getActiveValue(type, valueClass);
+		}
+
+		@Override
+		public V getInactive(IGenomeWrapper wrapper) {
+			return wrapper.getGenome().getInactiveValue(type, valueClass);
+		}
+	}
+}
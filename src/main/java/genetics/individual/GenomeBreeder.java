@@ -0,0 +1,143 @@
+package genetics.individual;
+
+import javax.annotation.Nullable;
+import java.util.SplittableRandom;
+
+import genetics.api.alleles.IAllele;
+import genetics.api.individual.IChromosome;
+import genetics.api.individual.IChromosomeType;
+import genetics.api.individual.IGenome;
+import genetics.api.individual.IKaryotype;
+
+import genetics.ApiInstance;
+import genetics.alleles.AlleleRegistry;
+
+/**
+ * Breeds many offspring of the same two parent genomes at once.
+ * <p>
+ * A chromosome of an offspring only has eight possible outcomes, because {@link IChromosome#inheritChromosome} makes
+ * three binary decisions for every chromosome. The breeder resolves the dominance of all outcomes once per call and
+ * afterwards only uses three random bits to pick one of the outcomes for every chromosome.
+ */
+final class GenomeBreeder {
+	/**
+	 * The amount of possible outcomes of one inherited chromosome.
+	 */
+	private static final int OUTCOMES = 8;
+	private static final int BITS_PER_CHROMOSOME = 3;
+	private static final int OUTCOME_MASK = OUTCOMES - 1;
+
+	private GenomeBreeder() {
+	}
+
+	static IGenome[] breed(IKaryotype karyotype, IGenome first, IGenome second, int count, SplittableRandom rand) {
+		if (first.getKaryotype() != karyotype || second.getKaryotype() != karyotype) {
+			String message = String.format("Tried to breed genomes with the karyotype '%s' that have a different karyotype.", karyotype.getUID());
+			throw new IllegalArgumentException(message);
+		}
+		if (count < 0) {
+			throw new IllegalArgumentException("Tried to breed a negative amount of genomes.");
+		}
+		IChromosome[] outcomes = createOutcomes(karyotype, first, second);
+		IGenome[] offspring = new IGenome[count];
+		AlleleRegistry registry = ApiInstance.INSTANCE.alleleRegistry;
+		IAllele[] alleleTable = registry == null ? null : registry.getAlleleTable();
+		int[] outcomeIds = alleleTable == null ? null : createOutcomeIds(outcomes, alleleTable);
+		if (outcomeIds != null) {
+			breedPacked(karyotype, outcomeIds, alleleTable, offspring, rand);
+		} else {
+			breedChromosomes(karyotype, outcomes, offspring, rand);
+		}
+		return offspring;
+	}
+
+	/**
+	 * Creates all possible outcomes of every chromosome. The outcome of the chromosome at the index <code>i</code>
+	 * has the position <code>i * 8 + bits</code>, where the bits are the three decisions of
+	 * {@link Chromosome#inheritChromosome}.
+	 */
+	private static IChromosome[] createOutcomes(IKaryotype karyotype, IGenome first, IGenome second) {
+		IChromosomeType[] types = karyotype.getChromosomeTypes();
+		IChromosome[] outcomes = new IChromosome[types.length * OUTCOMES];
+		for (IChromosomeType type : types) {
+			IChromosome firstChromosome = first.getChromosome(type);
+			IChromosome secondChromosome = second.getChromosome(type);
+			int offset = type.getIndex() * OUTCOMES;
+			for (int bits = 0; bits < OUTCOMES; bits++) {
+				IAllele firstChoice = (bits & 1) != 0 ? firstChromosome.getActiveAllele() : firstChromosome.getInactiveAllele();
+				IAllele secondChoice = (bits & 2) != 0 ? secondChromosome.getActiveAllele() : secondChromosome.getInactiveAllele();
+				if ((bits & 4) != 0) {
+					outcomes[offset + bits] = Chromosome.create(firstChoice, secondChoice, type);
+				} else {
+					outcomes[offset + bits] = Chromosome.create(secondChoice, firstChoice, type);
+				}
+			}
+		}
+		return outcomes;
+	}
+
+	/**
+	 * @return The ids of the active and inactive alleles of every outcome interleaved, or null if a allele is not part
+	 * of the table.
+	 */
+	@Nullable
+	private static int[] createOutcomeIds(IChromosome[] outcomes, IAllele[] alleleTable) {
+		AlleleRegistry registry = ApiInstance.INSTANCE.alleleRegistry;
+		int[] outcomeIds = new int[outcomes.length * 2];
+		for (int i = 0; i < outcomes.length; i++) {
+			int activeId = registry.getId(outcomes[i].getActiveAllele());
+			int inactiveId = registry.getId(outcomes[i].getInactiveAllele());
+			if (!isInTable(alleleTable, activeId, outcomes[i].getActiveAllele())
+				|| !isInTable(alleleTable, inactiveId, outcomes[i].getInactiveAllele())) {
+				return null;
+			}
+			outcomeIds[i * 2] = activeId;
+			outcomeIds[i * 2 + 1] = inactiveId;
+		}
+		return outcomeIds;
+	}
+
+	private static boolean isInTable(IAllele[] alleleTable, int id, IAllele allele) {
+		return id >= 0 && id < alleleTable.length && alleleTable[id] == allele;
+	}
+
+	private static void breedPacked(IKaryotype karyotype, int[] outcomeIds, IAllele[] alleleTable, IGenome[] offspring, SplittableRandom rand) {
+		int chromosomeCount = karyotype.getChromosomeTypes().length;
+		long bits = 0;
+		int remainingBits = 0;
+		for (int i = 0; i < offspring.length; i++) {
+			int[] alleleIds = new int[chromosomeCount * 2];
+			for (int index = 0; index < chromosomeCount; index++) {
+				if (remainingBits < BITS_PER_CHROMOSOME) {
+					bits = rand.nextLong();
+					remainingBits = Long.SIZE;
+				}
+				int outcome = (index * OUTCOMES + (int) (bits & OUTCOME_MASK)) * 2;
+				bits >>>= BITS_PER_CHROMOSOME;
+				remainingBits -= BITS_PER_CHROMOSOME;
+				alleleIds[index * 2] = outcomeIds[outcome];
+				alleleIds[index * 2 + 1] = outcomeIds[outcome + 1];
+			}
+			offspring[i] = new PackedGenome(karyotype, alleleTable, alleleIds);
+		}
+	}
+
+	private static void breedChromosomes(IKaryotype karyotype, IChromosome[] outcomes, IGenome[] offspring, SplittableRandom rand) {
+		int chromosomeCount = karyotype.getChromosomeTypes().length;
+		long bits = 0;
+		int remainingBits = 0;
+		for (int i = 0; i < offspring.length; i++) {
+			IChromosome[] chromosomes = new IChromosome[chromosomeCount];
+			for (int index = 0; index < chromosomeCount; index++) {
+				if (remainingBits < BITS_PER_CHROMOSOME) {
+					bits = rand.nextLong();
+					remainingBits = Long.SIZE;
+				}
+				chromosomes[index] = outcomes[index * OUTCOMES + (int) (bits & OUTCOME_MASK)];
+				bits >>>= BITS_PER_CHROMOSOME;
+				remainingBits -= BITS_PER_CHROMOSOME;
+			}
+			offspring[i] = new Genome(karyotype, chromosomes);
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package genetics.individual;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import genetics.api.alleles.IAllele;
+import genetics.api.individual.IGenome;
+import genetics.api.individual.IKaryotype;
+
+/**
+ * Shares the genomes that were read from the same binary data, so stacks of equal items don't decode the same data
+ * more than once.
+ * <p>
+ * The cache only keeps a limited amount of genomes and only as long as they are used somewhere else. The cached
+ * genomes are immutable, so they can be shared between individuals and threads.
+ * <p>
+ * The binary data contains the ids of the alleles, which can be remapped if a world gets loaded. Because of that the
+ * allele table that resolves the ids is part of the key. The registry publishes a new table only after a remap, so
+ * genomes that were decoded with old ids are never returned for the new ids, while every other load finds the genome
+ * with the same table.
+ */
+final class GenomeCache {
+	private static final int MAXIMUM_SIZE = 2048;
+	private static final Cache<Key, IGenome> CACHE = CacheBuilder.newBuilder()
+		.maximumSize(MAXIMUM_SIZE)
+		.weakValues()
+		.build();
+
+	private GenomeCache() {
+	}
+
+	/**
+	 * @param alleleTable   The allele table that the genome uses to resolve the ids of the data.
+	 * @param data          The binary data of the genome. Not modified and not kept by the cache.
+	 * @param genomeFactory Creates the genome out of a copy of the data, if no genome with the same data is cached.
+	 */
+	static IGenome get(IKaryotype karyotype, IAllele[] alleleTable, byte[] data, Function<byte[], IGenome> genomeFactory) {
+		IGenome genome = CACHE.getIfPresent(new Key(karyotype, alleleTable, data));
+		if (genome != null) {
+			return genome;
+		}
+		//Only the data of a key that is retained by the cache gets copied
+		byte[] copy = data.clone();
+		genome = genomeFactory.apply(copy);
+		IGenome cached = CACHE.asMap().putIfAbsent(new Key(karyotype, alleleTable, copy), genome);
+		return cached != null ? cached : genome;
+	}
+
+	private static final class Key {
+		private final IKaryotype karyotype;
+		private final IAllele[] alleleTable;
+		private final byte[] data;
+		private final int hashCode;
+
+		private Key(IKaryotype karyotype, IAllele[] alleleTable, byte[] data) {
+			this.karyotype = karyotype;
+			this.alleleTable = alleleTable;
+			this.data = data;
+			this.hashCode = 31 * (31 * karyotype.hashCode() + System.identityHashCode(alleleTable)) + Arrays.hashCode(data);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return karyotype == other.karyotype && alleleTable == other.alleleTable && Arrays.equals(data, other.data);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
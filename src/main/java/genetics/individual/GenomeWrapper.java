@@ -0,0 +1,119 @@
+package genetics.individual;
+
+import genetics.api.alleles.IAllele;
+import genetics.api.alleles.IAlleleValue;
+import genetics.api.individual.IChromosomeType;
+import genetics.api.individual.IGenome;
+import genetics.api.individual.IGenomeWrapper;
+import genetics.api.individual.IKaryotype;
+
+/**
+ * The implementation of {@link IGenomeWrapper} that the {@link GenomeWrapperFactory} uses if it can't generate the
+ * wrapper class of a karyotype.
+ * <p>
+ * Resolves the alleles of every chromosome and their integer, float or boolean value once when the wrapper is created.
+ * The active value of the chromosome at the index <code>i</code> has the position <code>i * 2</code> in the value
+ * arrays and the inactive value the position <code>i * 2 + 1</code>, so every accessor is a single array read without
+ * any cast or boxing. Accessors for a value that the allele doesn't have fall back to the genome, which throws the
+ * exception.
+ */
+public final class GenomeWrapper implements IGenomeWrapper {
+	private static final byte NO_VALUE = 0;
+	private static final byte INT_VALUE = 1;
+	private static final byte FLOAT_VALUE = 2;
+	private static final byte BOOLEAN_VALUE = 3;
+
+	private final IGenome genome;
+	private final IAllele[] alleles;
+	/* The type of the value that was resolved for the allele at the same position. */
+	private final byte[] valueTypes;
+	private final int[] intValues;
+	private final float[] floatValues;
+	private final boolean[] booleanValues;
+
+	public GenomeWrapper(IGenome genome) {
+		this.genome = genome;
+		IKaryotype karyotype = genome.getKaryotype();
+		IChromosomeType[] chromosomeTypes = karyotype.getChromosomeTypes();
+		int size = chromosomeTypes.length * 2;
+		this.alleles = new IAllele[size];
+		this.valueTypes = new byte[size];
+		this.intValues = new int[size];
+		this.floatValues = new float[size];
+		this.booleanValues = new boolean[size];
+		for (IChromosomeType chromosomeType : chromosomeTypes) {
+			int index = chromosomeType.getIndex() * 2;
+			resolve(index, genome.getActiveAllele(chromosomeType));
+			resolve(index + 1, genome.getInactiveAllele(chromosomeType));
+		}
+	}
+
+	private void resolve(int index, IAllele allele) {
+		alleles[index] = allele;
+		if (!(allele instanceof IAlleleValue)) {
+			return;
+		}
+		Object value = ((IAlleleValue) allele).getValue();
+		if (value instanceof Integer) {
+			intValues[index] = (Integer) value;
+			valueTypes[index] = INT_VALUE;
+		} else if (value instanceof Float) {
+			floatValues[index] = (Float) value;
+			valueTypes[index] = FLOAT_VALUE;
+		} else if (value instanceof Boolean) {
+			booleanValues[index] = (Boolean) value;
+			valueTypes[index] = BOOLEAN_VALUE;
+		}
+	}
+
+	@Override
+	public IGenome getGenome() {
+		return genome;
+	}
+
+	@Override
+	public IAllele getActiveAllele(IChromosomeType chromosomeType) {
+		return alleles[chromosomeType.getIndex() * 2];
+	}
+
+	@Override
+	public IAllele getInactiveAllele(IChromosomeType chromosomeType) {
+		return alleles[chromosomeType.getIndex() * 2 + 1];
+	}
+
+	@Override
+	public int getActiveInt(IChromosomeType chromosomeType) {
+		int index = chromosomeType.getIndex() * 2;
+		return valueTypes[index] == INT_VALUE ? intValues[index] : genome.getActiveInt(chromosomeType);
+	}
+
+	@Override
+	public int getInactiveInt(IChromosomeType chromosomeType) {
+		int index = chromosomeType.getIndex() * 2 + 1;
+		return valueTypes[index] == INT_VALUE ? intValues[index] : genome.getInactiveValue(chromosomeType, Integer.class);
+	}
+
+	@Override
+	public float getActiveFloat(IChromosomeType chromosomeType) {
+		int index = chromosomeType.getIndex() * 2;
+		return valueTypes[index] == FLOAT_VALUE ? floatValues[index] : genome.getActiveFloat(chromosomeType);
+	}
+
+	@Override
+	public float getInactiveFloat(IChromosomeType chromosomeType) {
+		int index = chromosomeType.getIndex() * 2 + 1;
+		return valueTypes[index] == FLOAT_VALUE ? floatValues[index] : genome.getInactiveValue(chromosomeType, Float.class);
+	}
+
+	@Override
+	public boolean getActiveBoolean(IChromosomeType chromosomeType) {
+		int index = chromosomeType.getIndex() * 2;
+		return valueTypes[index] == BOOLEAN_VALUE ? booleanValues[index] : genome.getActiveBoolean(chromosomeType);
+	}
+
+	@Override
+	public boolean getInactiveBoolean(IChromosomeType chromosomeType) {
+		int index = chromosomeType.getIndex() * 2 + 1;
+		return valueTypes[index] == BOOLEAN_VALUE ? booleanValues[index] : genome.getInactiveValue(chromosomeType, Boolean.class);
+	}
+}
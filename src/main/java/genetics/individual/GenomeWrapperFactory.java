@@ -0,0 +1,227 @@
+package genetics.individual;
+
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Function;
+
+import genetics.api.alleles.IAllele;
+import genetics.api.individual.IChromosomeType;
+import genetics.api.individual.IGenome;
+import genetics.api.individual.IGenomeWrapper;
+import genetics.api.individual.IGenomeWrapperFactory;
+import genetics.api.individual.IKaryotype;
+
+import genetics.Log;
+
+/**
+ * The default implementation of {@link IGenomeWrapperFactory}.
+ * <p>
+ * Generates the wrapper class of the karyotype and the accessors of all chromosome types with the
+ * {@link GenomeWrapperGenerator} the first time that a wrapper or an accessor is requested, so creating the factory
+ * is cheap. The wrappers are created with a {@link MethodHandle} of the constructor of the generated class and
+ * every accessor is created only once. If the classes can't be generated the factory creates {@link GenomeWrapper}s
+ * and uses the accessors of {@link GenomeAccessors}.
+ */
+public final class GenomeWrapperFactory implements IGenomeWrapperFactory {
+	private final IKaryotype karyotype;
+	private final IChromosomeType[] chromosomeTypes;
+	@Nullable
+	private volatile Implementation implementation;
+
+	public GenomeWrapperFactory(IKaryotype karyotype) {
+		this.karyotype = karyotype;
+		this.chromosomeTypes = karyotype.getChromosomeTypes();
+	}
+
+	private Implementation getImplementation() {
+		Implementation implementation = this.implementation;
+		if (implementation == null) {
+			synchronized (this) {
+				implementation = this.implementation;
+				if (implementation == null) {
+					this.implementation = implementation = createImplementation();
+				}
+			}
+		}
+		return implementation;
+	}
+
+	private Implementation createImplementation() {
+		Implementation implementation = new Implementation(chromosomeTypes.length);
+		try {
+			GenomeWrapperGenerator generator = new GenomeWrapperGenerator(karyotype);
+			implementation.wrapperCreator = createGeneratedCreator(generator.getWrapperClass());
+			for (IChromosomeType type : chromosomeTypes) {
+				createGeneratedAccessors(implementation, generator, type);
+			}
+		} catch (Exception | LinkageError e) {
+			Log.error("Failed to generate the genome wrapper of the karyotype '{}', using the default wrapper.", karyotype.getUID(), e);
+			implementation = new Implementation(chromosomeTypes.length);
+			implementation.wrapperCreator = GenomeWrapper::new;
+			for (IChromosomeType type : chromosomeTypes) {
+				createDefaultAccessors(implementation, type);
+			}
+		}
+		return implementation;
+	}
+
+	private Function<IGenome, IGenomeWrapper> createGeneratedCreator(Class<? extends GeneratedGenomeWrapper> wrapperClass) throws ReflectiveOperationException {
+		MethodHandle constructor = MethodHandles.publicLookup()
+			.findConstructor(wrapperClass, MethodType.methodType(void.class, IGenome.class, IAllele[].class))
+			.asType(MethodType.methodType(IGenomeWrapper.class, IGenome.class, IAllele[].class));
+		return genome -> {
+			try {
+				return (IGenomeWrapper) constructor.invokeExact(genome, resolveAlleles(genome));
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new IllegalStateException(e);
+			}
+		};
+	}
+
+	private static void createGeneratedAccessors(Implementation implementation, GenomeWrapperGenerator generator, IChromosomeType type) throws ReflectiveOperationException {
+		int index = type.getIndex();
+		implementation.alleleAccessors[index] = createAccessor(generator, type, GenomeAccessors.AlleleAccessor.class);
+		switch (GenomeWrapperGenerator.ValueKind.ofType(type)) {
+			case INT:
+				implementation.intAccessors[index] = createAccessor(generator, type, GenomeAccessors.IntAccessor.class);
+				break;
+			case FLOAT:
+				implementation.floatAccessors[index] = createAccessor(generator, type, GenomeAccessors.FloatAccessor.class);
+				break;
+			case BOOLEAN:
+				implementation.booleanAccessors[index] = createAccessor(generator, type, GenomeAccessors.BooleanAccessor.class);
+				break;
+			case OBJECT:
+				implementation.valueAccessors[index] = generator.generateAccessor(type, GenomeAccessors.ValueAccessor.class)
+					.getConstructor(IChromosomeType.class, Class.class).newInstance(type, type.getValueClass());
+				break;
+			default:
+				break;
+		}
+		createDefaultValueAccessor(implementation, type);
+	}
+
+	private static <A> A createAccessor(GenomeWrapperGenerator generator, IChromosomeType type, Class<A> accessorClass) throws ReflectiveOperationException {
+		return generator.generateAccessor(type, accessorClass).getConstructor(IChromosomeType.class).newInstance(type);
+	}
+
+	private static void createDefaultAccessors(Implementation implementation, IChromosomeType type) {
+		int index = type.getIndex();
+		implementation.alleleAccessors[index] = new GenomeAccessors.AlleleAccessor(type);
+		switch (GenomeWrapperGenerator.ValueKind.ofType(type)) {
+			case INT:
+				implementation.intAccessors[index] = new GenomeAccessors.IntAccessor(type);
+				break;
+			case FLOAT:
+				implementation.floatAccessors[index] = new GenomeAccessors.FloatAccessor(type);
+				break;
+			case BOOLEAN:
+				implementation.booleanAccessors[index] = new GenomeAccessors.BooleanAccessor(type);
+				break;
+			default:
+				break;
+		}
+		createDefaultValueAccessor(implementation, type);
+	}
+
+	private static void createDefaultValueAccessor(Implementation implementation, IChromosomeType type) {
+		Class<?> valueClass = type.getValueClass();
+		if (valueClass != null && implementation.valueAccessors[type.getIndex()] == null) {
+			implementation.valueAccessors[type.getIndex()] = new GenomeAccessors.ValueAccessor<>(type, valueClass);
+		}
+	}
+
+	private IAllele[] resolveAlleles(IGenome genome) {
+		IAllele[] alleles = new IAllele[chromosomeTypes.length * 2];
+		for (IChromosomeType type : chromosomeTypes) {
+			int index = type.getIndex() * 2;
+			alleles[index] = genome.getActiveAllele(type);
+			alleles[index + 1] = genome.getInactiveAllele(type);
+		}
+		return alleles;
+	}
+
+	@Override
+	public IKaryotype getKaryotype() {
+		return karyotype;
+	}
+
+	@Override
+	public IGenomeWrapper createWrapper(IGenome genome) {
+		if (genome.getKaryotype() != karyotype) {
+			throw new IllegalArgumentException(String.format("The genome has the karyotype '%s' and not the karyotype '%s' of this factory.", genome.getKaryotype().getUID(), karyotype.getUID()));
+		}
+		return getImplementation().wrapperCreator.apply(genome);
+	}
+
+	@Override
+	public IAlleleAccessor getAlleleAccessor(IChromosomeType type) {
+		return getImplementation().alleleAccessors[checkType(type).getIndex()];
+	}
+
+	@Override
+	public IIntAccessor getIntAccessor(IChromosomeType type) {
+		return checkAccessor(getImplementation().intAccessors[checkType(type).getIndex()], type, Integer.class);
+	}
+
+	@Override
+	public IFloatAccessor getFloatAccessor(IChromosomeType type) {
+		return checkAccessor(getImplementation().floatAccessors[checkType(type).getIndex()], type, Float.class);
+	}
+
+	@Override
+	public IBooleanAccessor getBooleanAccessor(IChromosomeType type) {
+		return checkAccessor(getImplementation().booleanAccessors[checkType(type).getIndex()], type, Boolean.class);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <V> IValueAccessor<V> getValueAccessor(IChromosomeType type, Class<V> valueClass) {
+		Class<?> typeClass = checkType(type).getValueClass();
+		if (typeClass == null || !valueClass.isAssignableFrom(typeClass)) {
+			throw new IllegalArgumentException(String.format("The values of the chromosome type '%s' are no instances of '%s'.", type.getName(), valueClass.getSimpleName()));
+		}
+		return (IValueAccessor<V>) getImplementation().valueAccessors[type.getIndex()];
+	}
+
+	private IChromosomeType checkType(IChromosomeType type) {
+		int index = type.getIndex();
+		if (index < 0 || index >= chromosomeTypes.length || chromosomeTypes[index] != type) {
+			throw new IllegalArgumentException(String.format("The karyotype '%s' doesn't contain the chromosome type '%s'.", karyotype.getUID(), type.getName()));
+		}
+		return type;
+	}
+
+	private static <A> A checkAccessor(A accessor, IChromosomeType type, Class<?> valueClass) {
+		if (accessor == null) {
+			throw new IllegalArgumentException(String.format("The value class of the chromosome type '%s' is not '%s'.", type.getName(), valueClass.getSimpleName()));
+		}
+		return accessor;
+	}
+
+	/**
+	 * The wrapper creator and the accessors of the chromosome types. Only the entries of the accessors that match the
+	 * value class of a type are not null. Every type with a value class has a value accessor, which is shared by all
+	 * value classes the values can be cast to.
+	 */
+	private static final class Implementation {
+		private Function<IGenome, IGenomeWrapper> wrapperCreator = GenomeWrapper::new;
+		private final IAlleleAccessor[] alleleAccessors;
+		private final IIntAccessor[] intAccessors;
+		private final IFloatAccessor[] floatAccessors;
+		private final IBooleanAccessor[] booleanAccessors;
+		private final IValueAccessor<?>[] valueAccessors;
+
+		private Implementation(int size) {
+			this.alleleAccessors = new IAlleleAccessor[size];
+			this.intAccessors = new IIntAccessor[size];
+			this.floatAccessors = new IFloatAccessor[size];
+			this.booleanAccessors = new IBooleanAccessor[size];
+			this.valueAccessors = new IValueAccessor<?>[size];
+		}
+	}
+}
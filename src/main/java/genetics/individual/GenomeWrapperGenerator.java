@@ -0,0 +1,287 @@
+package genetics.individual;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import genetics.api.alleles.IAllele;
+import genetics.api.individual.IChromosomeType;
+import genetics.api.individual.IGenome;
+import genetics.api.individual.IGenomeWrapper;
+import genetics.api.individual.IKaryotype;
+
+/**
+ * Generates the wrapper class of a karyotype and the accessor classes of its chromosome types with ASM.
+ * <p>
+ * The wrapper class extends {@link GeneratedGenomeWrapper} and contains the public final fields
+ * <code>activeAllele&lt;index&gt;</code> and <code>inactiveAllele&lt;index&gt;</code> for every chromosome type and
+ * the fields <code>active&lt;index&gt;</code> and <code>inactive&lt;index&gt;</code> if the type has a value class.
+ * The value fields are primitive if the value class is {@link Integer}, {@link Float} or {@link Boolean}. The
+ * constructor reads the alleles from the interleaved allele array and resolves the values once.
+ * <p>
+ * Every accessor class extends one of the classes in {@link GenomeAccessors} and reads the field of its chromosome
+ * type if the wrapper is a instance of the generated class. All classes of a karyotype are defined by a own class
+ * loader, so they can be collected together with the factory.
+ */
+final class GenomeWrapperGenerator {
+	private static final String PACKAGE = "genetics/individual/generated/";
+	private static final AtomicInteger CLASS_ID = new AtomicInteger();
+
+	private static final String SUPER_NAME = Type.getInternalName(GeneratedGenomeWrapper.class);
+	private static final String ALLELE_DESC = Type.getDescriptor(IAllele.class);
+	private static final String TYPE_DESC = Type.getDescriptor(IChromosomeType.class);
+	private static final String WRAPPER_DESC = Type.getDescriptor(IGenomeWrapper.class);
+	private static final String OBJECT_DESC = Type.getDescriptor(Object.class);
+
+	private final IKaryotype karyotype;
+	private final GeneratedClassLoader classLoader;
+	private final String wrapperName;
+	private final Class<? extends GeneratedGenomeWrapper> wrapperClass;
+
+	GenomeWrapperGenerator(IKaryotype karyotype) {
+		this.karyotype = karyotype;
+		this.classLoader = new GeneratedClassLoader(GeneratedGenomeWrapper.class.getClassLoader());
+		this.wrapperName = PACKAGE + "GenomeWrapper" + CLASS_ID.getAndIncrement() + "$" + sanitize(karyotype.getUID());
+		this.wrapperClass = classLoader.define(wrapperName, generateWrapper()).asSubclass(GeneratedGenomeWrapper.class);
+	}
+
+	Class<? extends GeneratedGenomeWrapper> getWrapperClass() {
+		return wrapperClass;
+	}
+
+	/**
+	 * Generates the accessor class of the given chromosome type.
+	 *
+	 * @param superClass One of the classes in {@link GenomeAccessors}. The value kind of the super class must match
+	 *                   the value kind of the chromosome type.
+	 */
+	<A> Class<? extends A> generateAccessor(IChromosomeType type, Class<A> superClass) {
+		ValueKind kind = ValueKind.ofAccessor(superClass);
+		String superName = Type.getInternalName(superClass);
+		String name = wrapperName + "$" + kind.name + "Accessor" + type.getIndex();
+		String constructorDesc = kind == ValueKind.OBJECT ? "(" + TYPE_DESC + "Ljava/lang/Class;)V" : "(" + TYPE_DESC + ")V";
+		ClassWriter writer = createWriter();
+		writer.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER, name, null, superName, null);
+
+		MethodVisitor constructor = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", constructorDesc, null, null);
+		constructor.visitCode();
+		constructor.visitVarInsn(Opcodes.ALOAD, 0);
+		constructor.visitVarInsn(Opcodes.ALOAD, 1);
+		if (kind == ValueKind.OBJECT) {
+			constructor.visitVarInsn(Opcodes.ALOAD, 2);
+		}
+		constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, superName, "<init>", constructorDesc, false);
+		constructor.visitInsn(Opcodes.RETURN);
+		constructor.visitMaxs(0, 0);
+		constructor.visitEnd();
+
+		String fieldSuffix = kind == ValueKind.ALLELE ? "Allele" + type.getIndex() : Integer.toString(type.getIndex());
+		generateAccessorMethod(writer, superName, kind, "getActive", "active" + fieldSuffix);
+		generateAccessorMethod(writer, superName, kind, "getInactive", "inactive" + fieldSuffix);
+		writer.visitEnd();
+		return classLoader.define(name, writer.toByteArray()).asSubclass(superClass);
+	}
+
+	private void generateAccessorMethod(ClassWriter writer, String superName, ValueKind kind, String methodName, String fieldName) {
+		String desc = "(" + WRAPPER_DESC + ")" + kind.fieldDesc;
+		MethodVisitor method = writer.visitMethod(Opcodes.ACC_PUBLIC, methodName, desc, null, null);
+		method.visitCode();
+		Label fallback = new Label();
+		method.visitVarInsn(Opcodes.ALOAD, 1);
+		method.visitTypeInsn(Opcodes.INSTANCEOF, wrapperName);
+		method.visitJumpInsn(Opcodes.IFEQ, fallback);
+		method.visitVarInsn(Opcodes.ALOAD, 1);
+		method.visitTypeInsn(Opcodes.CHECKCAST, wrapperName);
+		method.visitFieldInsn(Opcodes.GETFIELD, wrapperName, fieldName, kind.fieldDesc);
+		method.visitInsn(kind.returnOpcode);
+		method.visitLabel(fallback);
+		method.visitVarInsn(Opcodes.ALOAD, 0);
+		method.visitVarInsn(Opcodes.ALOAD, 1);
+		method.visitMethodInsn(Opcodes.INVOKESPECIAL, superName, methodName, desc, false);
+		method.visitInsn(kind.returnOpcode);
+		method.visitMaxs(0, 0);
+		method.visitEnd();
+	}
+
+	private byte[] generateWrapper() {
+		IChromosomeType[] types = karyotype.getChromosomeTypes();
+		ClassWriter writer = createWriter();
+		writer.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER, wrapperName, null, SUPER_NAME, null);
+		for (IChromosomeType type : types) {
+			int index = type.getIndex();
+			writer.visitField(Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL, "activeAllele" + index, ALLELE_DESC, null, null).visitEnd();
+			writer.visitField(Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL, "inactiveAllele" + index, ALLELE_DESC, null, null).visitEnd();
+			ValueKind kind = ValueKind.ofType(type);
+			if (kind != ValueKind.ALLELE) {
+				writer.visitField(Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL, "active" + index, kind.fieldDesc, null, null).visitEnd();
+				writer.visitField(Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL, "inactive" + index, kind.fieldDesc, null, null).visitEnd();
+			}
+		}
+
+		String constructorDesc = "(" + Type.getDescriptor(IGenome.class) + "[" + ALLELE_DESC + ")V";
+		MethodVisitor constructor = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", constructorDesc, null, null);
+		constructor.visitCode();
+		constructor.visitVarInsn(Opcodes.ALOAD, 0);
+		constructor.visitVarInsn(Opcodes.ALOAD, 1);
+		constructor.visitVarInsn(Opcodes.ALOAD, 2);
+		constructor.visitMethodInsn(Opcodes.INVOKESPECIAL, SUPER_NAME, "<init>", constructorDesc, false);
+		for (IChromosomeType type : types) {
+			int index = type.getIndex();
+			ValueKind kind = ValueKind.ofType(type);
+			generateFieldInit(constructor, "activeAllele" + index, index * 2, ValueKind.ALLELE);
+			generateFieldInit(constructor, "inactiveAllele" + index, index * 2 + 1, ValueKind.ALLELE);
+			if (kind != ValueKind.ALLELE) {
+				generateFieldInit(constructor, "active" + index, index * 2, kind);
+				generateFieldInit(constructor, "inactive" + index, index * 2 + 1, kind);
+			}
+		}
+		constructor.visitInsn(Opcodes.RETURN);
+		constructor.visitMaxs(0, 0);
+		constructor.visitEnd();
+
+		generateValueSwitch(writer, types, ValueKind.INT, "getActiveInt", "active");
+		generateValueSwitch(writer, types, ValueKind.INT, "getInactiveInt", "inactive");
+		generateValueSwitch(writer, types, ValueKind.FLOAT, "getActiveFloat", "active");
+		generateValueSwitch(writer, types, ValueKind.FLOAT, "getInactiveFloat", "inactive");
+		generateValueSwitch(writer, types, ValueKind.BOOLEAN, "getActiveBoolean", "active");
+		generateValueSwitch(writer, types, ValueKind.BOOLEAN, "getInactiveBoolean", "inactive");
+		writer.visitEnd();
+		return writer.toByteArray();
+	}
+
+	private void generateFieldInit(MethodVisitor constructor, String fieldName, int alleleIndex, ValueKind kind) {
+		constructor.visitVarInsn(Opcodes.ALOAD, 0);
+		constructor.visitVarInsn(Opcodes.ALOAD, 2);
+		constructor.visitLdcInsn(alleleIndex);
+		constructor.visitInsn(Opcodes.AALOAD);
+		if (kind.resolveMethod != null) {
+			constructor.visitMethodInsn(Opcodes.INVOKESTATIC, SUPER_NAME, kind.resolveMethod, "(" + ALLELE_DESC + ")" + kind.fieldDesc, false);
+		}
+		constructor.visitFieldInsn(Opcodes.PUTFIELD, wrapperName, fieldName, kind.fieldDesc);
+	}
+
+	/**
+	 * Overrides the given value method of {@link GeneratedGenomeWrapper} with a switch over the index of the
+	 * chromosome type, so the methods of {@link IGenomeWrapper} read the fields too.
+	 */
+	private void generateValueSwitch(ClassWriter writer, IChromosomeType[] types, ValueKind kind, String methodName, String fieldPrefix) {
+		int[] indexes = Arrays.stream(types).filter(type -> ValueKind.ofType(type) == kind).mapToInt(IChromosomeType::getIndex).sorted().toArray();
+		if (indexes.length == 0) {
+			return;
+		}
+		String desc = "(" + TYPE_DESC + ")" + kind.fieldDesc;
+		MethodVisitor method = writer.visitMethod(Opcodes.ACC_PUBLIC, methodName, desc, null, null);
+		method.visitCode();
+		Label fallback = new Label();
+		Label[] labels = new Label[indexes.length];
+		for (int i = 0; i < labels.length; i++) {
+			labels[i] = new Label();
+		}
+		method.visitVarInsn(Opcodes.ALOAD, 1);
+		method.visitMethodInsn(Opcodes.INVOKEINTERFACE, Type.getInternalName(IChromosomeType.class), "getIndex", "()I", true);
+		method.visitLookupSwitchInsn(fallback, indexes, labels);
+		for (int i = 0; i < labels.length; i++) {
+			method.visitLabel(labels[i]);
+			method.visitVarInsn(Opcodes.ALOAD, 0);
+			method.visitFieldInsn(Opcodes.GETFIELD, wrapperName, fieldPrefix + indexes[i], kind.fieldDesc);
+			method.visitInsn(kind.returnOpcode);
+		}
+		method.visitLabel(fallback);
+		method.visitVarInsn(Opcodes.ALOAD, 0);
+		method.visitVarInsn(Opcodes.ALOAD, 1);
+		method.visitMethodInsn(Opcodes.INVOKESPECIAL, SUPER_NAME, methodName, desc, false);
+		method.visitInsn(kind.returnOpcode);
+		method.visitMaxs(0, 0);
+		method.visitEnd();
+	}
+
+	private static ClassWriter createWriter() {
+		return new ClassWriter(ClassWriter.COMPUTE_FRAMES) {
+			/* The generated classes only merge frames of the same types, so the class loader of ASM must never load them. */
+			@Override
+			protected String getCommonSuperClass(String type1, String type2) {
+				return "java/lang/Object";
+			}
+		};
+	}
+
+	private static String sanitize(String uid) {
+		StringBuilder builder = new StringBuilder(uid.length());
+		for (char c : uid.toCharArray()) {
+			builder.append(Character.isJavaIdentifierPart(c) ? c : '_');
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * The kind of the value fields of a chromosome type.
+	 */
+	enum ValueKind {
+		ALLELE("Allele", ALLELE_DESC, Opcodes.ARETURN, null),
+		INT("Int", "I", Opcodes.IRETURN, "getIntValue"),
+		FLOAT("Float", "F", Opcodes.FRETURN, "getFloatValue"),
+		BOOLEAN("Boolean", "Z", Opcodes.IRETURN, "getBooleanValue"),
+		OBJECT("Value", OBJECT_DESC, Opcodes.ARETURN, "getValue");
+
+		private final String name;
+		private final String fieldDesc;
+		private final int returnOpcode;
+		@Nullable
+		private final String resolveMethod;
+
+		ValueKind(String name, String fieldDesc, int returnOpcode, @Nullable String resolveMethod) {
+			this.name = name;
+			this.fieldDesc = fieldDesc;
+			this.returnOpcode = returnOpcode;
+			this.resolveMethod = resolveMethod;
+		}
+
+		/**
+		 * @return The kind of the value fields of the given type, or {@link #ALLELE} if the type has no value fields.
+		 */
+		static ValueKind ofType(IChromosomeType type) {
+			Class<?> valueClass = type.getValueClass();
+			if (valueClass == null) {
+				return ALLELE;
+			} else if (valueClass == Integer.class) {
+				return INT;
+			} else if (valueClass == Float.class) {
+				return FLOAT;
+			} else if (valueClass == Boolean.class) {
+				return BOOLEAN;
+			}
+			return OBJECT;
+		}
+
+		static ValueKind ofAccessor(Class<?> accessorClass) {
+			if (accessorClass == GenomeAccessors.AlleleAccessor.class) {
+				return ALLELE;
+			} else if (accessorClass == GenomeAccessors.IntAccessor.class) {
+				return INT;
+			} else if (accessorClass == GenomeAccessors.FloatAccessor.class) {
+				return FLOAT;
+			} else if (accessorClass == GenomeAccessors.BooleanAccessor.class) {
+				return BOOLEAN;
+			} else if (accessorClass == GenomeAccessors.ValueAccessor.class) {
+				return OBJECT;
+			}
+			throw new IllegalArgumentException(String.format("'%s' is no accessor class.", accessorClass.getName()));
+		}
+	}
+
+	private static final class GeneratedClassLoader extends ClassLoader {
+		private GeneratedClassLoader(ClassLoader parent) {
+			super(parent);
+		}
+
+		private Class<?> define(String name, byte[] data) {
+			return defineClass(name.replace('/', '.'), data, 0, data.length);
+		}
+	}
+}
@@ -3,6 +3,7 @@ package genetics.individual;
 import javax.annotation.Nullable;
 import java.util.Arrays;
 import java.util.Set;
+import java.util.SplittableRandom;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -14,6 +15,8 @@ import genetics.api.individual.IChromosomeType;
 import genetics.api.individual.IGenome;
 import genetics.api.individual.IKaryotype;
 
+import genetics.GeneticFactory;
+
 public class Karyotype implements IKaryotype {
 	private final String uid;
 	private final IChromosomeType[] chromosomeTypes;
@@ -103,6 +106,11 @@ public class Karyotype implements IKaryotype {
 
 	@Override
 	public IGenome templateAsGenome(IAllele[] templateActive, @Nullable IAllele[] templateInactive) {
-		return new Genome(this, templateAsChromosomes(templateActive, templateInactive));
+		return GeneticFactory.INSTANCE.createGenome(this, templateAsChromosomes(templateActive, templateInactive));
+	}
+
+	@Override
+	public IGenome[] breed(IGenome first, IGenome second, int count, SplittableRandom rand) {
+		return GenomeBreeder.breed(this, first, second, count, rand);
 	}
 }
@@ -0,0 +1,248 @@
+package genetics.individual;
+
+import com.google.common.base.MoreObjects;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.nbt.NBTTagCompound;
+
+import genetics.api.alleles.IAllele;
+import genetics.api.individual.Fingerprints;
+import genetics.api.individual.IChromosome;
+import genetics.api.individual.IChromosomeType;
+import genetics.api.individual.IGenome;
+import genetics.api.individual.IKaryotype;
+
+import genetics.ApiInstance;
+import genetics.alleles.AlleleRegistry;
+import genetics.utils.AlleleUtils;
+import genetics.utils.SimpleByteBuf;
+
+/**
+ * A {@link IGenome} implementation that keeps the data of a genome in the {@link SimpleByteBuf#FIXED_WIDTH_VERSION}
+ * layout and only decodes a chromosome the first time it gets requested.
+ * <p>
+ * Decoded chromosomes are cached. Two threads may decode the same chromosome at the same time, but because the
+ * chromosomes are immutable and interned both get the same result.
+ * <p>
+ * Like {@link PackedGenome} the genome keeps the allele table that was current at its creation and resolves every id
+ * with it, so all chromosomes use the same ids even if the registry gets remapped before they are decoded.
+ */
+public final class LazyGenome implements IGenome {
+	private final IKaryotype karyotype;
+	/* Must not be modified. */
+	private final byte[] data;
+	private final int version;
+	/* The allele table that is used to resolve the ids of the data, or null if the registry was not created yet. */
+	@Nullable
+	private final IAllele[] alleleTable;
+	private final IChromosome[] chromosomes;
+	private volatile boolean hasFingerprint = false;
+	private long fingerprint;
+
+	/**
+	 * @param data    The encoded chromosomes. The array must not be modified after it was passed to the genome.
+	 * @param version The layout of the data. Only {@link SimpleByteBuf#FIXED_WIDTH_VERSION} is supported.
+	 */
+	public LazyGenome(IKaryotype karyotype, byte[] data, int version) {
+		this(karyotype, data, version, getCurrentAlleleTable());
+	}
+
+	/**
+	 * @param alleleTable The allele table of the registry that is used to resolve the ids of the data.
+	 */
+	LazyGenome(IKaryotype karyotype, byte[] data, int version, @Nullable IAllele[] alleleTable) {
+		if (version == SimpleByteBuf.VAR_INT_VERSION) {
+			throw new IllegalArgumentException("The chromosomes of the varint layout can't be decoded lazily.");
+		}
+		this.karyotype = karyotype;
+		this.data = data;
+		this.version = version;
+		this.alleleTable = alleleTable;
+		this.chromosomes = new IChromosome[karyotype.getChromosomeTypes().length];
+	}
+
+	@Nullable
+	static IAllele[] getCurrentAlleleTable() {
+		AlleleRegistry registry = ApiInstance.INSTANCE.alleleRegistry;
+		return registry == null ? null : registry.getAlleleTable();
+	}
+
+	// / INFORMATION RETRIEVAL
+	@Override
+	public IChromosome getChromosome(IChromosomeType chromosomeType) {
+		int index = chromosomeType.getIndex();
+		IChromosome chromosome = chromosomes[index];
+		if (chromosome == null) {
+			chromosome = decodeChromosome(chromosomeType);
+			chromosomes[index] = chromosome;
+		}
+		return chromosome;
+	}
+
+	private IChromosome decodeChromosome(IChromosomeType chromosomeType) {
+		IChromosomeType speciesType = karyotype.getSpeciesType();
+		if (chromosomeType.equals(speciesType)) {
+			return new SimpleByteBuf(data, version, alleleTable).readChromosome(speciesType, null);
+		}
+		IChromosome species = getChromosome(speciesType);
+		return new SimpleByteBuf(data, version, alleleTable).readChromosome(chromosomeType, species);
+	}
+
+	@Override
+	public IChromosome[] getChromosomes() {
+		IChromosomeType[] chromosomeTypes = karyotype.getChromosomeTypes();
+		IChromosome[] chromosomes = new IChromosome[chromosomeTypes.length];
+		for (IChromosomeType chromosomeType : chromosomeTypes) {
+			chromosomes[chromosomeType.getIndex()] = getChromosome(chromosomeType);
+		}
+		return chromosomes;
+	}
+
+	@Override
+	public IAllele getActiveAllele(IChromosomeType chromosomeType) {
+		return getChromosome(chromosomeType).getActiveAllele();
+	}
+
+	@Override
+	public IAllele getInactiveAllele(IChromosomeType chromosomeType) {
+		return getChromosome(chromosomeType).getInactiveAllele();
+	}
+
+	@Override
+	public <V> V getActiveValue(IChromosomeType chromosomeType, Class<? extends V> valueClass) {
+		IAllele allele = getActiveAllele(chromosomeType);
+		V value = AlleleUtils.getAlleleValue(allele, valueClass, null);
+		if (value == null) {
+			throw new IllegalArgumentException(String.format("The allele '%s' at the active position of the chromosome type '%s' has no value.", allele, chromosomeType));
+		}
+		return value;
+	}
+
+	@Override
+	public int getActiveInt(IChromosomeType chromosomeType) {
+		IAllele allele = getActiveAllele(chromosomeType);
+		return AlleleValues.getActiveInt(allele, allele.getId(), chromosomeType);
+	}
+
+	@Override
+	public float getActiveFloat(IChromosomeType chromosomeType) {
+		IAllele allele = getActiveAllele(chromosomeType);
+		return AlleleValues.getActiveFloat(allele, allele.getId(), chromosomeType);
+	}
+
+	@Override
+	public boolean getActiveBoolean(IChromosomeType chromosomeType) {
+		IAllele allele = getActiveAllele(chromosomeType);
+		return AlleleValues.getActiveBoolean(allele, allele.getId(), chromosomeType);
+	}
+
+	@Override
+	public <V> V getInactiveValue(IChromosomeType chromosomeType, Class<? extends V> valueClass) {
+		IAllele allele = getInactiveAllele(chromosomeType);
+		V value = AlleleUtils.getAlleleValue(allele, valueClass, null);
+		if (value == null) {
+			throw new IllegalArgumentException(String.format("The allele '%s' at the inactive position of the chromosome type '%s' has no value.", allele, chromosomeType));
+		}
+		return value;
+	}
+
+	@Override
+	public IAllele[] getActiveAlleles() {
+		IChromosomeType[] chromosomeTypes = karyotype.getChromosomeTypes();
+		IAllele[] alleles = new IAllele[chromosomeTypes.length];
+		for (IChromosomeType chromosomeType : chromosomeTypes) {
+			alleles[chromosomeType.getIndex()] = getActiveAllele(chromosomeType);
+		}
+		return alleles;
+	}
+
+	@Override
+	public IAllele[] getInactiveAlleles() {
+		IChromosomeType[] chromosomeTypes = karyotype.getChromosomeTypes();
+		IAllele[] alleles = new IAllele[chromosomeTypes.length];
+		for (IChromosomeType chromosomeType : chromosomeTypes) {
+			alleles[chromosomeType.getIndex()] = getInactiveAllele(chromosomeType);
+		}
+		return alleles;
+	}
+
+	@Override
+	public IKaryotype getKaryotype() {
+		return karyotype;
+	}
+
+	@Override
+	public NBTTagCompound writeToNBT(NBTTagCompound compound) {
+		return GeneticSaveHandler.INSTANCE.writeTag(getChromosomes(), karyotype, compound);
+	}
+
+	@Override
+	public boolean isPureBred(IChromosomeType chromosomeType) {
+		return getChromosome(chromosomeType).isPureBred();
+	}
+
+	/**
+	 * Decodes every chromosome the first time it gets called.
+	 */
+	@Override
+	public long getFingerprint() {
+		if (!hasFingerprint) {
+			long hash = Fingerprints.BASIS;
+			for (IChromosomeType chromosomeType : karyotype.getChromosomeTypes()) {
+				IChromosome chromosome = getChromosome(chromosomeType);
+				hash = Fingerprints.add(hash, chromosome.getActiveAllele());
+				hash = Fingerprints.add(hash, chromosome.getInactiveAllele());
+			}
+			fingerprint = Fingerprints.finish(hash);
+			hasFingerprint = true;
+		}
+		return fingerprint;
+	}
+
+	/**
+	 * Only decodes the chromosomes up to the first chromosome that differs.
+	 */
+	@Override
+	public boolean isGeneticEqual(IGenome other) {
+		if (other == this) {
+			return true;
+		}
+		IChromosomeType[] chromosomeTypes = karyotype.getChromosomeTypes();
+		if (other.getKaryotype().getChromosomeTypes().length != chromosomeTypes.length) {
+			return false;
+		}
+		for (IChromosomeType chromosomeType : chromosomeTypes) {
+			if (!getChromosome(chromosomeType).isGeneticEqual(other.getChromosome(chromosomeType))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof IGenome)) {
+			return false;
+		}
+		IGenome other = (IGenome) obj;
+		return karyotype == other.getKaryotype() && isGeneticEqual(other);
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(getFingerprint());
+	}
+
+	@Override
+	public String toString() {
+		MoreObjects.ToStringHelper toStringHelper = MoreObjects.toStringHelper(this);
+		for (IChromosomeType chromosomeType : karyotype.getChromosomeTypes()) {
+			toStringHelper.add(String.valueOf(chromosomeType.getIndex()), getChromosome(chromosomeType));
+		}
+		return toStringHelper.toString();
+	}
+}
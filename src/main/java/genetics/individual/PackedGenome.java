@@ -0,0 +1,281 @@
+package genetics.individual;
+
+import com.google.common.base.MoreObjects;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+import net.minecraft.nbt.NBTTagCompound;
+
+import genetics.api.alleles.IAllele;
+import genetics.api.individual.Fingerprints;
+import genetics.api.individual.IChromosome;
+import genetics.api.individual.IChromosomeType;
+import genetics.api.individual.IGenome;
+import genetics.api.individual.IKaryotype;
+
+import genetics.ApiInstance;
+import genetics.alleles.AlleleRegistry;
+import genetics.utils.AlleleUtils;
+
+/**
+ * A {@link IGenome} implementation that only stores the ids of its alleles in a single int array instead of holding
+ * a chromosome object for every chromosome type.
+ * <p>
+ * The ids of the active and the inactive alleles are interleaved, so the active allele of the chromosome at the index
+ * <code>i</code> has the position <code>i * 2</code> and the inactive allele the position <code>i * 2 + 1</code>.
+ * The {@link IChromosome}s of this genome are only created if they are requested.
+ */
+public final class PackedGenome implements IGenome {
+	private final IKaryotype karyotype;
+	private final int[] alleleIds;
+	/**
+	 * The allele table that was used to get the ids of the alleles. Used to resolve the ids even if the ids of the
+	 * registry got remapped after this genome was created.
+	 */
+	private final IAllele[] alleleTable;
+	private final long fingerprint;
+
+	public PackedGenome(IKaryotype karyotype, IChromosome[] chromosomes) {
+		Genome.checkChromosomes(karyotype, chromosomes);
+		AlleleRegistry registry = ApiInstance.INSTANCE.alleleRegistry;
+		if (registry == null) {
+			throw new IllegalStateException("Tried to create a packed genome before the allele registry was created.");
+		}
+		IAllele[] alleleTable = registry.getAlleleTable();
+		if (alleleTable == null) {
+			throw new IllegalStateException("Tried to create a packed genome while the allele registry gets remapped.");
+		}
+		this.karyotype = karyotype;
+		this.alleleTable = alleleTable;
+		this.alleleIds = new int[chromosomes.length * 2];
+		for (int i = 0; i < chromosomes.length; i++) {
+			IChromosome chromosome = chromosomes[i];
+			alleleIds[i * 2] = getId(chromosome.getActiveAllele());
+			alleleIds[i * 2 + 1] = getId(chromosome.getInactiveAllele());
+		}
+		this.fingerprint = createFingerprint();
+	}
+
+	/**
+	 * Creates a genome out of allele ids that were already validated.
+	 *
+	 * @param alleleTable The allele table that contains the alleles of the given ids.
+	 * @param alleleIds   The ids of the active and inactive alleles interleaved.
+	 */
+	PackedGenome(IKaryotype karyotype, IAllele[] alleleTable, int[] alleleIds) {
+		this.karyotype = karyotype;
+		this.alleleTable = alleleTable;
+		this.alleleIds = alleleIds;
+		this.fingerprint = createFingerprint();
+	}
+
+	private long createFingerprint() {
+		long hash = Fingerprints.BASIS;
+		for (int alleleId : alleleIds) {
+			hash = Fingerprints.add(hash, alleleTable[alleleId]);
+		}
+		return Fingerprints.finish(hash);
+	}
+
+	/**
+	 * @return True if every allele of the given chromosomes has a valid id and the chromosomes can be packed into a
+	 * {@link PackedGenome}.
+	 */
+	public static boolean canPack(IChromosome[] chromosomes) {
+		AlleleRegistry registry = ApiInstance.INSTANCE.alleleRegistry;
+		if (registry == null) {
+			return false;
+		}
+		IAllele[] table = registry.getAlleleTable();
+		if (table == null) {
+			return false;
+		}
+		for (IChromosome chromosome : chromosomes) {
+			if (chromosome == null
+				|| !isInTable(table, chromosome.getActiveAllele())
+				|| !isInTable(table, chromosome.getInactiveAllele())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isInTable(IAllele[] table, @Nullable IAllele allele) {
+		if (allele == null) {
+			return false;
+		}
+		AlleleRegistry registry = ApiInstance.INSTANCE.alleleRegistry;
+		int id = registry == null ? -1 : registry.getId(allele);
+		return id >= 0 && id < table.length && table[id] == allele;
+	}
+
+	private int getId(IAllele allele) {
+		AlleleRegistry registry = ApiInstance.INSTANCE.alleleRegistry;
+		int id = registry == null ? -1 : registry.getId(allele);
+		if (id < 0 || id >= alleleTable.length || alleleTable[id] != allele) {
+			String message = String.format("Tried to create a packed genome for '%s' with the unregistered allele '%s'.", karyotype.getUID(), allele);
+			throw new IllegalArgumentException(message);
+		}
+		return id;
+	}
+
+	// / INFORMATION RETRIEVAL
+	@Override
+	public IChromosome[] getChromosomes() {
+		IChromosomeType[] chromosomeTypes = karyotype.getChromosomeTypes();
+		IChromosome[] chromosomes = new IChromosome[chromosomeTypes.length];
+		for (IChromosomeType chromosomeType : chromosomeTypes) {
+			chromosomes[chromosomeType.getIndex()] = getChromosome(chromosomeType);
+		}
+		return chromosomes;
+	}
+
+	@Override
+	public IAllele getActiveAllele(IChromosomeType chromosomeType) {
+		return alleleTable[alleleIds[chromosomeType.getIndex() * 2]];
+	}
+
+	@Override
+	public IAllele getInactiveAllele(IChromosomeType chromosomeType) {
+		return alleleTable[alleleIds[chromosomeType.getIndex() * 2 + 1]];
+	}
+
+	@Override
+	public <V> V getActiveValue(IChromosomeType chromosomeType, Class<? extends V> valueClass) {
+		IAllele allele = getActiveAllele(chromosomeType);
+		V value = AlleleUtils.getAlleleValue(allele, valueClass, null);
+		if (value == null) {
+			throw new IllegalArgumentException(String.format("The allele '%s' at the active position of the chromosome type '%s' has no value.", allele, chromosomeType));
+		}
+		return value;
+	}
+
+	@Override
+	public int getActiveInt(IChromosomeType chromosomeType) {
+		int id = alleleIds[chromosomeType.getIndex() * 2];
+		return AlleleValues.getActiveInt(alleleTable[id], id, chromosomeType);
+	}
+
+	@Override
+	public float getActiveFloat(IChromosomeType chromosomeType) {
+		int id = alleleIds[chromosomeType.getIndex() * 2];
+		return AlleleValues.getActiveFloat(alleleTable[id], id, chromosomeType);
+	}
+
+	@Override
+	public boolean getActiveBoolean(IChromosomeType chromosomeType) {
+		int id = alleleIds[chromosomeType.getIndex() * 2];
+		return AlleleValues.getActiveBoolean(alleleTable[id], id, chromosomeType);
+	}
+
+	@Override
+	public <V> V getInactiveValue(IChromosomeType chromosomeType, Class<? extends V> valueClass) {
+		IAllele allele = getInactiveAllele(chromosomeType);
+		V value = AlleleUtils.getAlleleValue(allele, valueClass, null);
+		if (value == null) {
+			throw new IllegalArgumentException(String.format("The allele '%s' at the inactive position of the chromosome type '%s' has no value.", allele, chromosomeType));
+		}
+		return value;
+	}
+
+	@Override
+	public IChromosome getChromosome(IChromosomeType chromosomeType) {
+		return Chromosome.of(getActiveAllele(chromosomeType), getInactiveAllele(chromosomeType), chromosomeType);
+	}
+
+	@Override
+	public IAllele[] getActiveAlleles() {
+		IAllele[] alleles = new IAllele[alleleIds.length / 2];
+		for (int i = 0; i < alleles.length; i++) {
+			alleles[i] = alleleTable[alleleIds[i * 2]];
+		}
+		return alleles;
+	}
+
+	@Override
+	public IAllele[] getInactiveAlleles() {
+		IAllele[] alleles = new IAllele[alleleIds.length / 2];
+		for (int i = 0; i < alleles.length; i++) {
+			alleles[i] = alleleTable[alleleIds[i * 2 + 1]];
+		}
+		return alleles;
+	}
+
+	@Override
+	public IKaryotype getKaryotype() {
+		return karyotype;
+	}
+
+	@Override
+	public NBTTagCompound writeToNBT(NBTTagCompound compound) {
+		return GeneticSaveHandler.INSTANCE.writeTag(getChromosomes(), karyotype, compound);
+	}
+
+	@Override
+	public boolean isPureBred(IChromosomeType chromosomeType) {
+		int index = chromosomeType.getIndex() * 2;
+		return alleleIds[index] == alleleIds[index + 1];
+	}
+
+	@Override
+	public long getFingerprint() {
+		return fingerprint;
+	}
+
+	@Override
+	public boolean isGeneticEqual(IGenome other) {
+		if (other == this) {
+			return true;
+		}
+		if (other.getFingerprint() != fingerprint) {
+			return false;
+		}
+		if (other instanceof PackedGenome) {
+			PackedGenome otherGenome = (PackedGenome) other;
+			if (otherGenome.alleleTable == alleleTable) {
+				return Arrays.equals(alleleIds, otherGenome.alleleIds);
+			}
+		}
+		IAllele[] otherActive = other.getActiveAlleles();
+		IAllele[] otherInactive = other.getInactiveAlleles();
+		if (otherActive.length * 2 != alleleIds.length) {
+			return false;
+		}
+
+		for (int i = 0; i < otherActive.length; i++) {
+			if (!alleleTable[alleleIds[i * 2]].equals(otherActive[i])
+				|| !alleleTable[alleleIds[i * 2 + 1]].equals(otherInactive[i])) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof IGenome)) {
+			return false;
+		}
+		IGenome other = (IGenome) obj;
+		return karyotype == other.getKaryotype() && isGeneticEqual(other);
+	}
+
+	@Override
+	public int hashCode() {
+		return Long.hashCode(fingerprint);
+	}
+
+	@Override
+	public String toString() {
+		MoreObjects.ToStringHelper toStringHelper = MoreObjects.toStringHelper(this);
+		for (IChromosomeType chromosomeType : karyotype.getChromosomeTypes()) {
+			toStringHelper.add(String.valueOf(chromosomeType.getIndex()), getChromosome(chromosomeType));
+		}
+		return toStringHelper.toString();
+	}
+}
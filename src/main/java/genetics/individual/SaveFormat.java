@@ -2,6 +2,7 @@ package genetics.individual;
 
 import javax.annotation.Nullable;
 
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.ResourceLocation;
@@ -11,6 +12,7 @@ import net.minecraftforge.common.util.Constants;
 import genetics.api.alleles.IAllele;
 import genetics.api.individual.IChromosome;
 import genetics.api.individual.IChromosomeType;
+import genetics.api.individual.IGenome;
 import genetics.api.individual.IKaryotype;
 
 import genetics.utils.SimpleByteBuf;
@@ -146,30 +148,43 @@ public enum SaveFormat {
 	},
 	//Used to save the chromosomes as compact as possible
 	BINARY {
-		private static final String DATA_TAG = "data";
-
 		@Override
 		NBTTagCompound writeTag(IChromosome[] chromosomes, IKaryotype karyotype, NBTTagCompound tagCompound) {
-			SimpleByteBuf byteBuf = new SimpleByteBuf(chromosomes.length);
+			SimpleByteBuf byteBuf = SimpleByteBuf.getScratchBuffer(SimpleByteBuf.getEncodedSize(chromosomes.length));
 			byteBuf.writeChromosomes(chromosomes, karyotype);
 			tagCompound.setByteArray(DATA_TAG, byteBuf.toByteArray());
-			tagCompound.setInteger(VERSION_TAG, VERSION);
+			tagCompound.setInteger(VERSION_TAG, SimpleByteBuf.FIXED_WIDTH_VERSION);
+			tagCompound.removeTag(DELTA_TAG);
 
 			return tagCompound;
 		}
 
 		@Override
 		IChromosome[] readTag(IKaryotype karyotype, NBTTagCompound tagCompound) {
-			byte[] data = tagCompound.getByteArray(DATA_TAG);
-			SimpleByteBuf simpleByteBuf = new SimpleByteBuf(data);
+			SimpleByteBuf simpleByteBuf = createBuffer(tagCompound);
 			return simpleByteBuf.readChromosomes(karyotype);
 		}
 
+		private SimpleByteBuf createBuffer(NBTTagCompound genomeNBT) {
+			byte[] data = genomeNBT.getByteArray(DATA_TAG);
+			return new SimpleByteBuf(data, getVersion(genomeNBT));
+		}
+
+		/**
+		 * Gets the layout of the data of the given compound from its version tag. Every layout other than the current
+		 * one was written with the varint layout.
+		 */
+		private int getVersion(NBTTagCompound genomeNBT) {
+			if (genomeNBT.getInteger(VERSION_TAG) == SimpleByteBuf.FIXED_WIDTH_VERSION) {
+				return SimpleByteBuf.FIXED_WIDTH_VERSION;
+			}
+			return SimpleByteBuf.VAR_INT_VERSION;
+		}
+
 		@Nullable
 		@Override
 		IAllele getAlleleDirectly(NBTTagCompound genomeNBT, IChromosomeType geneType, boolean active) {
-			byte[] data = genomeNBT.getByteArray(DATA_TAG);
-			SimpleByteBuf simpleByteBuf = new SimpleByteBuf(data);
+			SimpleByteBuf simpleByteBuf = createBuffer(genomeNBT);
 			ChromosomeInfo chromosomeInfo = simpleByteBuf.readChromosome(geneType);
 			IChromosome chromosome = chromosomeInfo.chromosome;
 			if (chromosome == null) {
@@ -180,8 +195,7 @@ public enum SaveFormat {
 
 		@Override
 		public IChromosome getSpecificChromosome(NBTTagCompound genomeNBT, IChromosomeType geneType) {
-			byte[] data = genomeNBT.getByteArray(DATA_TAG);
-			SimpleByteBuf simpleByteBuf = new SimpleByteBuf(data);
+			SimpleByteBuf simpleByteBuf = createBuffer(genomeNBT);
 			ChromosomeInfo chromosomeInfo = simpleByteBuf.readChromosome(geneType);
 			if (chromosomeInfo.chromosome == null) {
 				//Fix the broken NBT
@@ -190,6 +204,11 @@ public enum SaveFormat {
 			return chromosomeInfo.chromosome;
 		}
 
+		@Override
+		void readAlleles(NBTTagCompound genomeNBT, IChromosomeType[] types, IAllele[] alleles) {
+			createBuffer(genomeNBT).readAlleles(types, alleles);
+		}
+
 		private IChromosome fixData(NBTTagCompound genomeNBT, ChromosomeInfo missingChromosome) {
 			IChromosomeType geneType = missingChromosome.chromosomeType;
 			IKaryotype karyotype = geneType.getRoot().getKaryotype();
@@ -200,15 +219,86 @@ public enum SaveFormat {
 			return chromosome;
 		}
 
+		@Nullable
+		@Override
+		IGenome createLazyGenome(IKaryotype karyotype, NBTTagCompound genomeNBT) {
+			byte[] data = genomeNBT.getByteArray(DATA_TAG);
+			if (getVersion(genomeNBT) != SimpleByteBuf.FIXED_WIDTH_VERSION) {
+				return null;
+			}
+			IAllele[] alleleTable = LazyGenome.getCurrentAlleleTable();
+			if (alleleTable == null) {
+				//The ids can't be pinned to a table before the registry exists or while it gets remapped
+				return null;
+			}
+			return GenomeCache.get(karyotype, alleleTable, data, copy -> new LazyGenome(karyotype, copy, SimpleByteBuf.FIXED_WIDTH_VERSION, alleleTable));
+		}
+
+		@Nullable
+		@Override
+		NBTBase getData(NBTTagCompound genomeNBT) {
+			return genomeNBT.getTag(DATA_TAG);
+		}
+
 		@Override
 		public boolean canLoad(NBTTagCompound tagCompound) {
 			return tagCompound.hasKey(DATA_TAG);
 		}
+	},
+	/*
+	 * Saves only the chromosomes that differ from the templates of the species. Not used by default, because the saved
+	 * genomes change if the templates of a species change.
+	 */
+	TEMPLATE_DELTA {
+		@Override
+		NBTTagCompound writeTag(IChromosome[] chromosomes, IKaryotype karyotype, NBTTagCompound tagCompound) {
+			tagCompound.setByteArray(DELTA_TAG, TemplateDelta.write(chromosomes, karyotype));
+			//Remove the binary data, because it would be detected first
+			tagCompound.removeTag(DATA_TAG);
+			tagCompound.removeTag(VERSION_TAG);
+			return tagCompound;
+		}
+
+		@Override
+		IChromosome[] readTag(IKaryotype karyotype, NBTTagCompound tagCompound) {
+			return TemplateDelta.read(karyotype, tagCompound.getByteArray(DELTA_TAG));
+		}
+
+		@Override
+		IAllele getAlleleDirectly(NBTTagCompound genomeNBT, IChromosomeType geneType, boolean active) {
+			IChromosome chromosome = getSpecificChromosome(genomeNBT, geneType);
+			return active ? chromosome.getActiveAllele() : chromosome.getInactiveAllele();
+		}
+
+		@Override
+		IChromosome getSpecificChromosome(NBTTagCompound genomeNBT, IChromosomeType geneType) {
+			IKaryotype karyotype = geneType.getRoot().getKaryotype();
+			byte[] data = genomeNBT.getByteArray(DELTA_TAG);
+			if (!TemplateDelta.matchesTemplates(karyotype, data)) {
+				//Read the whole genome and write it again with the current templates, so the next read is direct again
+				IChromosome[] chromosomes = TemplateDelta.read(karyotype, data);
+				writeTag(chromosomes, karyotype, genomeNBT);
+				return chromosomes[geneType.getIndex()];
+			}
+			return TemplateDelta.read(karyotype, data, geneType);
+		}
+
+		@Nullable
+		@Override
+		NBTBase getData(NBTTagCompound genomeNBT) {
+			return genomeNBT.getTag(DELTA_TAG);
+		}
+
+		@Override
+		boolean canLoad(NBTTagCompound tagCompound) {
+			return tagCompound.hasKey(DELTA_TAG);
+		}
 	};
 
 	private static final String VERSION_TAG = "version";
+	private static final String DATA_TAG = "data";
+	private static final String DELTA_TAG = "delta";
 	private static final String SLOT_TAG = "Slot";
-	private static final int VERSION = 1;
 	private static final String CHROMOSOMES_TAG = "Chromosomes";
 
 	abstract NBTTagCompound writeTag(IChromosome[] chromosomes, IKaryotype karyotype, NBTTagCompound tagCompound);
@@ -221,4 +311,40 @@ public enum SaveFormat {
 	abstract IChromosome getSpecificChromosome(NBTTagCompound genomeNBT, IChromosomeType geneKey);
 
 	abstract boolean canLoad(NBTTagCompound tagCompound);
+
+	/**
+	 * Reads the alleles of the chromosomes of the given types without reading the NBT-Data once per chromosome.
+	 *
+	 * @param alleles The array to that the active and inactive alleles of the chromosomes are written interleaved.
+	 *                The alleles of a chromosome that is absent are set to null.
+	 */
+	void readAlleles(NBTTagCompound genomeNBT, IChromosomeType[] types, IAllele[] alleles) {
+		if (types.length == 0) {
+			return;
+		}
+		IChromosome[] chromosomes = readTag(types[0].getRoot().getKaryotype(), genomeNBT);
+		for (int i = 0; i < types.length; i++) {
+			int index = types[i].getIndex();
+			IChromosome chromosome = index < chromosomes.length ? chromosomes[index] : null;
+			alleles[i * 2] = chromosome == null ? null : chromosome.getActiveAllele();
+			alleles[i * 2 + 1] = chromosome == null ? null : chromosome.getInactiveAllele();
+		}
+	}
+
+	/**
+	 * @return The tag that contains the encoded chromosomes in this format.
+	 */
+	@Nullable
+	NBTBase getData(NBTTagCompound genomeNBT) {
+		return genomeNBT.getTag(CHROMOSOMES_TAG);
+	}
+
+	/**
+	 * @return A genome that only decodes its chromosomes if they are requested and may be shared with other
+	 * individuals, or null if this format does not support decoding single chromosomes.
+	 */
+	@Nullable
+	IGenome createLazyGenome(IKaryotype karyotype, NBTTagCompound genomeNBT) {
+		return null;
+	}
 }
@@ -0,0 +1,237 @@
+package genetics.individual;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.util.ResourceLocation;
+
+import genetics.api.alleles.IAllele;
+import genetics.api.individual.IChromosome;
+import genetics.api.individual.IChromosomeType;
+import genetics.api.individual.IKaryotype;
+import genetics.api.root.ITemplateContainer;
+
+import genetics.ApiInstance;
+import genetics.Log;
+import genetics.alleles.AlleleRegistry;
+import genetics.root.TemplateContainer;
+import genetics.root.TemplateContainer.SpeciesTemplate;
+
+/**
+ * Encodes the chromosomes of a genome as the difference to the templates of its species.
+ * <p>
+ * The data starts with a version byte, the amount of chromosomes that the karyotype had when the data was written, a
+ * fingerprint of the templates that were used and the ids of the active and the inactive species allele. It is
+ * followed by a bit mask that contains a bit for every chromosome type that is set if the chromosome differs from the
+ * templates of the species. The length of the mask is derived from the saved amount of chromosomes, so the data stays
+ * readable if chromosome types get added. At the end the ids of the active and the inactive allele of every chromosome
+ * that differs are written in the order of the chromosome types. Every id takes two bytes.
+ * <p>
+ * A genome that is pure bred gets encoded with only a few bytes, because every chromosome matches the template. The
+ * templates are cached by the {@link TemplateContainer} of the root, so they live as long as the root.
+ */
+final class TemplateDelta {
+	private static final int VERSION = 1;
+	private static final int ALLELE_BYTES = 2;
+	private static final int COUNT_OFFSET = 1;
+	private static final int FINGERPRINT_OFFSET = COUNT_OFFSET + 1;
+	private static final int SPECIES_OFFSET = FINGERPRINT_OFFSET + 4;
+	private static final int MASK_OFFSET = SPECIES_OFFSET + ALLELE_BYTES * 2;
+	private static final int MAX_CHROMOSOME_COUNT = 255;
+	/**
+	 * Written instead of an id if a chromosome has no allele at a position.
+	 */
+	private static final int MISSING_ALLELE = 0xFFFF;
+
+	private TemplateDelta() {
+	}
+
+	static byte[] write(IChromosome[] chromosomes, IKaryotype karyotype) {
+		IChromosomeType[] types = karyotype.getChromosomeTypes();
+		IChromosome species = chromosomes[karyotype.getSpeciesType().getIndex()];
+		SpeciesTemplate activeTemplate = getTemplate(karyotype, species.getActiveAllele());
+		SpeciesTemplate inactiveTemplate = getTemplate(karyotype, species.getInactiveAllele());
+		if (types.length > MAX_CHROMOSOME_COUNT) {
+			throw new IllegalArgumentException(String.format("The karyotype '%s' has too many chromosome types to be written as a delta.", karyotype.getUID()));
+		}
+		byte[] mask = new byte[getMaskBytes(types.length)];
+		int differences = 0;
+		for (IChromosomeType type : types) {
+			int index = type.getIndex();
+			if (index < chromosomes.length && isDifferent(chromosomes[index], activeTemplate.alleles()[index], inactiveTemplate.alleles()[index])) {
+				mask[index >> 3] |= 1 << (index & 7);
+				differences++;
+			}
+		}
+
+		byte[] data = new byte[MASK_OFFSET + mask.length + differences * ALLELE_BYTES * 2];
+		data[0] = VERSION;
+		data[COUNT_OFFSET] = (byte) types.length;
+		writeInt(data, FINGERPRINT_OFFSET, getFingerprint(activeTemplate, inactiveTemplate));
+		writeAllele(data, SPECIES_OFFSET, species.getActiveAllele());
+		writeAllele(data, SPECIES_OFFSET + ALLELE_BYTES, species.getInactiveAllele());
+		System.arraycopy(mask, 0, data, MASK_OFFSET, mask.length);
+		int position = MASK_OFFSET + mask.length;
+		for (IChromosomeType type : types) {
+			int index = type.getIndex();
+			if (isSet(mask, index)) {
+				writeAllele(data, position, chromosomes[index].getActiveAllele());
+				writeAllele(data, position + ALLELE_BYTES, chromosomes[index].getInactiveAllele());
+				position += ALLELE_BYTES * 2;
+			}
+		}
+		return data;
+	}
+
+	private static boolean isDifferent(@Nullable IChromosome chromosome, IAllele activeTemplate, IAllele inactiveTemplate) {
+		return chromosome == null
+			|| chromosome.getActiveAllele() != activeTemplate
+			|| chromosome.getInactiveAllele() != inactiveTemplate;
+	}
+
+	/**
+	 * Reads all chromosomes of the data. If the templates of the species changed since the data was written, the
+	 * chromosomes that matched the old templates can't be restored and are replaced by the chromosomes of the current
+	 * templates.
+	 */
+	static IChromosome[] read(IKaryotype karyotype, byte[] data) {
+		IChromosomeType[] types = karyotype.getChromosomeTypes();
+		IChromosome[] chromosomes = new IChromosome[types.length];
+		IChromosome species = readSpecies(karyotype, data);
+		if (!matchesTemplates(karyotype, data, species)) {
+			Log.warning("The templates of the species '{}' changed since a genome of the karyotype '{}' was saved, using the current templates for the chromosomes that were not saved.",
+				species.getActiveAllele(), karyotype.getUID());
+		}
+		for (IChromosomeType type : types) {
+			chromosomes[type.getIndex()] = type.equals(karyotype.getSpeciesType()) ? species : readChromosome(karyotype, data, species, type);
+		}
+		return chromosomes;
+	}
+
+	/**
+	 * Reads the chromosome of the given type without reading any other chromosome except the species chromosome.
+	 * Should only be used if {@link #matchesTemplates(IKaryotype, byte[])} is true.
+	 */
+	static IChromosome read(IKaryotype karyotype, byte[] data, IChromosomeType type) {
+		IChromosome species = readSpecies(karyotype, data);
+		if (type.equals(karyotype.getSpeciesType())) {
+			return species;
+		}
+		return readChromosome(karyotype, data, species, type);
+	}
+
+	/**
+	 * @return True if the data was written with the current templates of its species.
+	 */
+	static boolean matchesTemplates(IKaryotype karyotype, byte[] data) {
+		return matchesTemplates(karyotype, data, readSpecies(karyotype, data));
+	}
+
+	private static boolean matchesTemplates(IKaryotype karyotype, byte[] data, IChromosome species) {
+		if (data.length < MASK_OFFSET || data[0] != VERSION) {
+			return false;
+		}
+		SpeciesTemplate activeTemplate = getTemplate(karyotype, species.getActiveAllele());
+		SpeciesTemplate inactiveTemplate = getTemplate(karyotype, species.getInactiveAllele());
+		return readInt(data, FINGERPRINT_OFFSET) == getFingerprint(activeTemplate, inactiveTemplate);
+	}
+
+	private static int getFingerprint(SpeciesTemplate activeTemplate, SpeciesTemplate inactiveTemplate) {
+		return 31 * activeTemplate.getFingerprint() + inactiveTemplate.getFingerprint();
+	}
+
+	/**
+	 * @return The amount of chromosomes that the karyotype had when the data was written.
+	 */
+	private static int getChromosomeCount(byte[] data) {
+		return data.length > COUNT_OFFSET ? data[COUNT_OFFSET] & 255 : 0;
+	}
+
+	private static IChromosome readSpecies(IKaryotype karyotype, byte[] data) {
+		IAllele active = readAllele(data, SPECIES_OFFSET);
+		IAllele inactive = readAllele(data, SPECIES_OFFSET + ALLELE_BYTES);
+		return Chromosome.create((String) null, null, karyotype.getSpeciesType(), active, inactive);
+	}
+
+	private static IChromosome readChromosome(IKaryotype karyotype, byte[] data, IChromosome species, IChromosomeType type) {
+		int index = type.getIndex();
+		int chromosomeCount = getChromosomeCount(data);
+		int maskBytes = getMaskBytes(chromosomeCount);
+		//Chromosomes that were added after the data was written are not part of the mask and use the template
+		if (index >= chromosomeCount || data.length < MASK_OFFSET + maskBytes || !isSet(data, MASK_OFFSET, index)) {
+			IAllele[] activeTemplate = getTemplate(karyotype, species.getActiveAllele()).alleles();
+			IAllele[] inactiveTemplate = getTemplate(karyotype, species.getInactiveAllele()).alleles();
+			return Chromosome.of(activeTemplate[index], inactiveTemplate[index], type);
+		}
+		int position = MASK_OFFSET + maskBytes;
+		for (int i = 0; i < index; i++) {
+			if (isSet(data, MASK_OFFSET, i)) {
+				position += ALLELE_BYTES * 2;
+			}
+		}
+		IAllele active = readAllele(data, position);
+		IAllele inactive = readAllele(data, position + ALLELE_BYTES);
+		ResourceLocation activeSpeciesUid = species.getActiveAllele().getRegistryName();
+		ResourceLocation inactiveSpeciesUid = species.getInactiveAllele().getRegistryName();
+		return Chromosome.create(activeSpeciesUid, inactiveSpeciesUid, type, active, inactive);
+	}
+
+	/**
+	 * @return The template of the given species or the default template if the species has no template.
+	 */
+	private static SpeciesTemplate getTemplate(IKaryotype karyotype, IAllele species) {
+		ITemplateContainer container = karyotype.getSpeciesType().getRoot().getTemplates();
+		if (container instanceof TemplateContainer) {
+			return ((TemplateContainer) container).getSpeciesTemplate(species);
+		}
+		return TemplateContainer.createSpeciesTemplate(container, species);
+	}
+
+	private static int getMaskBytes(int chromosomeCount) {
+		return (chromosomeCount + 7) >> 3;
+	}
+
+	private static boolean isSet(byte[] mask, int index) {
+		return isSet(mask, 0, index);
+	}
+
+	private static boolean isSet(byte[] data, int offset, int index) {
+		return (data[offset + (index >> 3)] & 1 << (index & 7)) != 0;
+	}
+
+	private static void writeInt(byte[] data, int position, int value) {
+		data[position] = (byte) (value >>> 24);
+		data[position + 1] = (byte) (value >>> 16);
+		data[position + 2] = (byte) (value >>> 8);
+		data[position + 3] = (byte) value;
+	}
+
+	private static int readInt(byte[] data, int position) {
+		return (data[position] & 255) << 24 | (data[position + 1] & 255) << 16 | (data[position + 2] & 255) << 8 | data[position + 3] & 255;
+	}
+
+	private static void writeAllele(byte[] data, int position, @Nullable IAllele allele) {
+		AlleleRegistry registry = ApiInstance.INSTANCE.alleleRegistry;
+		int id = allele == null || registry == null ? -1 : registry.getId(allele);
+		if (id >= MISSING_ALLELE) {
+			throw new IllegalStateException(String.format("The id '%s' of the allele '%s' is too big to be written.", id, allele));
+		}
+		if (id < 0) {
+			id = MISSING_ALLELE;
+		}
+		data[position] = (byte) (id >>> 8);
+		data[position + 1] = (byte) id;
+	}
+
+	@Nullable
+	private static IAllele readAllele(byte[] data, int position) {
+		AlleleRegistry registry = ApiInstance.INSTANCE.alleleRegistry;
+		if (registry == null || position + ALLELE_BYTES > data.length) {
+			return null;
+		}
+		int id = (data[position] & 255) << 8 | data[position + 1] & 255;
+		if (id == MISSING_ALLELE) {
+			return null;
+		}
+		return registry.getAllele(id);
+	}
+}
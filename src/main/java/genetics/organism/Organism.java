@@ -6,14 +6,19 @@ import java.util.Optional;
 import java.util.function.Supplier;
 
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
 
 import net.minecraftforge.common.capabilities.Capability;
 
 import genetics.api.alleles.IAllele;
+import genetics.api.individual.IChromosome;
 import genetics.api.individual.IChromosomeType;
+import genetics.api.individual.IGenome;
 import genetics.api.individual.IIndividual;
 import genetics.api.organism.IOrganism;
+import genetics.api.organism.IOrganismHandler;
 import genetics.api.organism.IOrganismType;
 import genetics.api.root.IIndividualRoot;
 import genetics.api.root.IRootDefinition;
@@ -25,6 +30,20 @@ public class Organism<I extends IIndividual> implements IOrganism<I> {
 	private final ItemStack container;
 	private final IRootDefinition<? extends IIndividualRoot<I>> definition;
 	private final Supplier<IOrganismType> typeSupplier;
+	/**
+	 * The handler of the stack. The item of the stack never changes, so the handler is only looked up once.
+	 */
+	@Nullable
+	private IOrganismHandler<I> handler;
+	/**
+	 * The tag that contained the data of the genome at the time the cached genome was read or written. Writing a
+	 * genome replaces the data tag, so comparing the identity is enough to detect it without walking the compound.
+	 * Only the genome is cached, because it is immutable and doesn't depend on the other data of the individual.
+	 */
+	@Nullable
+	private NBTBase cachedGenomeData;
+	@Nullable
+	private IGenome cachedGenome;
 
 	public Organism(ItemStack container, IRootDefinition<? extends IIndividualRoot<I>> geneticDefinitionSupplier, Supplier<IOrganismType> typeSupplier) {
 		this.container = container;
@@ -34,12 +53,68 @@ public class Organism<I extends IIndividual> implements IOrganism<I> {
 
 	@Override
 	public Optional<I> getIndividual() {
-		return getRoot().getTypes().createIndividual(container);
+		Optional<I> optional = getRoot().getTypes().createIndividual(container);
+		if (optional.isPresent()) {
+			cacheGenome(optional.get().getGenome());
+		} else {
+			invalidateCache();
+		}
+		return optional;
 	}
 
 	@Override
 	public boolean setIndividual(I individual) {
-		return getRoot().getTypes().setIndividual(container, individual);
+		boolean result = getRoot().getTypes().setIndividual(container, individual);
+		if (result) {
+			cacheGenome(individual.getGenome());
+		} else {
+			invalidateCache();
+		}
+		return result;
+	}
+
+	@Nullable
+	private NBTBase getGenomeData() {
+		IOrganismHandler<I> handler = this.handler;
+		if (handler == null) {
+			handler = getRoot().getTypes().getHandler(container).orElse(null);
+			if (handler == null) {
+				return null;
+			}
+			this.handler = handler;
+		}
+		NBTTagCompound data = handler.getIndividualData(container);
+		return data == null ? null : GeneticSaveHandler.INSTANCE.getGenomeData(data);
+	}
+
+	/**
+	 * @return The cached genome if the stack still contains the genome data that it was created from, null otherwise.
+	 */
+	@Nullable
+	private IGenome getCachedGenome() {
+		if (cachedGenome == null) {
+			return null;
+		}
+		NBTBase genomeData = getGenomeData();
+		if (genomeData == null || cachedGenomeData != genomeData) {
+			return null;
+		}
+		return cachedGenome;
+	}
+
+	private void cacheGenome(IGenome genome) {
+		NBTBase genomeData = getGenomeData();
+		if (genomeData == null) {
+			invalidateCache();
+			return;
+		}
+		this.cachedGenomeData = genomeData;
+		this.cachedGenome = genome;
+	}
+
+	private void invalidateCache() {
+		this.cachedGenomeData = null;
+		this.cachedGenome = null;
 	}
 
 	@Override
@@ -54,6 +129,10 @@ public class Organism<I extends IIndividual> implements IOrganism<I> {
 
 	@Override
 	public IAllele getAllele(IChromosomeType chromosomeType, boolean active) {
+		IGenome genome = getCachedGenome();
+		if (genome != null) {
+			return active ? genome.getActiveAllele(chromosomeType) : genome.getInactiveAllele(chromosomeType);
+		}
 		IAllele allele = GeneticSaveHandler.INSTANCE.getAlleleDirectly(container, getType(), chromosomeType, active);
 		if (allele == null) {
 			allele = GeneticSaveHandler.INSTANCE.getAllele(container, getType(), chromosomeType, active);
@@ -61,6 +140,29 @@ public class Organism<I extends IIndividual> implements IOrganism<I> {
 		return allele;
 	}
 
+	@Override
+	public void getAlleles(IChromosomeType[] types, IAllele[] alleles) {
+		IGenome genome = getCachedGenome();
+		if (genome != null) {
+			if (alleles.length < types.length * 2) {
+				throw new IllegalArgumentException("The allele array is too small to contain the alleles of all chromosomes.");
+			}
+			for (int i = 0; i < types.length; i++) {
+				alleles[i * 2] = genome.getActiveAllele(types[i]);
+				alleles[i * 2 + 1] = genome.getInactiveAllele(types[i]);
+			}
+			return;
+		}
+		GeneticSaveHandler.INSTANCE.getAllelesDirectly(container, getType(), types, alleles);
+		for (int i = 0; i < types.length; i++) {
+			if (alleles[i * 2] == null || alleles[i * 2 + 1] == null) {
+				IChromosome chromosome = GeneticSaveHandler.INSTANCE.getSpecificChromosome(container, getType(), types[i]);
+				alleles[i * 2] = chromosome.getActiveAllele();
+				alleles[i * 2 + 1] = chromosome.getInactiveAllele();
+			}
+		}
+	}
+
 	@Override
 	public Optional<IAllele> getAlleleDirectly(IChromosomeType type, boolean active) {
 		return Optional.ofNullable(GeneticSaveHandler.INSTANCE.getAlleleDirectly(container, getType(), type, active));
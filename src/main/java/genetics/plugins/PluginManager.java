@@ -70,6 +70,7 @@ public class PluginManager {
 			builder.create();
 		}
 		handlePlugins(p -> p.onFinishRegistration(rootManager, GeneticsAPI.apiInstance));
+		alleleRegistry.freeze();
 	}
 
 	private static void handlePlugins(Consumer<IGeneticPlugin> pluginConsumer) {
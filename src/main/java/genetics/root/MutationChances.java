@@ -0,0 +1,87 @@
+package genetics.root;
+
+import com.google.common.collect.ImmutableList;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Optional;
+
+import genetics.api.alleles.IAlleleSpecies;
+import genetics.api.individual.IIndividual;
+import genetics.api.mutation.IMutation;
+import genetics.api.mutation.IMutationChances;
+import genetics.api.mutation.IMutationContainer;
+import genetics.api.root.IIndividualRoot;
+import genetics.api.root.components.ComponentKeys;
+
+import genetics.root.MutationMatrix.Cell;
+
+/**
+ * Looks up the mutation chances in the {@link MutationMatrix} of the mutation container of the root.
+ * <p>
+ * The matrix of a {@link MutationContainer} is created together with the container. The components of a root get
+ * created in no particular order, so the matrix is only fetched from the container on the first lookup and kept
+ * afterwards, because the components of a root never change after its creation.
+ */
+public class MutationChances<I extends IIndividual, M extends IMutation> implements IMutationChances<M> {
+	private final IIndividualRoot<I> root;
+	@Nullable
+	private volatile MutationMatrix<M> matrix = null;
+
+	public MutationChances(IIndividualRoot<I> root) {
+		this.root = root;
+	}
+
+	@Override
+	public List<M> getCandidates(IAlleleSpecies parentFirst, IAlleleSpecies parentSecond) {
+		Cell<M> cell = getMatrix().getCell(parentFirst, parentSecond);
+		return cell == null ? ImmutableList.of() : cell.mutations;
+	}
+
+	@Override
+	public float getTotalChance(IAlleleSpecies parentFirst, IAlleleSpecies parentSecond) {
+		Cell<M> cell = getMatrix().getCell(parentFirst, parentSecond);
+		return cell == null ? 0.0F : cell.cumulativeChances[cell.cumulativeChances.length - 1];
+	}
+
+	@Nullable
+	@Override
+	public M getMutation(IAlleleSpecies parentFirst, IAlleleSpecies parentSecond, float roll) {
+		Cell<M> cell = getMatrix().getCell(parentFirst, parentSecond);
+		if (cell == null) {
+			return null;
+		}
+		float[] chances = cell.cumulativeChances;
+		//Search the first mutation whose cumulative chance is greater than the roll
+		int low = 0;
+		int high = chances.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (chances[middle] > roll) {
+				high = middle;
+			} else {
+				low = middle + 1;
+			}
+		}
+		return low < chances.length ? cell.mutations.get(low) : null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private MutationMatrix<M> getMatrix() {
+		MutationMatrix<M> current = matrix;
+		if (current != null) {
+			return current;
+		}
+		Optional<IMutationContainer> optional = root.getComponent(ComponentKeys.MUTATIONS);
+		if (!optional.isPresent()) {
+			current = new MutationMatrix<>(ImmutableList.of(), (first, second) -> ImmutableList.of());
+		} else if (optional.get() instanceof MutationContainer) {
+			current = ((MutationContainer<I, M>) optional.get()).getMatrix();
+		} else {
+			IMutationContainer<M> container = optional.get();
+			current = new MutationMatrix<>(container.getMutations(false), (first, second) -> container.getCombinations(first, second, false));
+		}
+		matrix = current;
+		return current;
+	}
+}
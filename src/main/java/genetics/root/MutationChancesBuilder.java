@@ -0,0 +1,19 @@
+package genetics.root;
+
+import genetics.api.individual.IIndividual;
+import genetics.api.mutation.IMutation;
+import genetics.api.mutation.IMutationChances;
+import genetics.api.root.IIndividualRoot;
+import genetics.api.root.components.RootComponentBuilder;
+
+public class MutationChancesBuilder<I extends IIndividual, M extends IMutation> extends RootComponentBuilder<IMutationChances<M>, I> {
+
+	public MutationChancesBuilder(IIndividualRoot<I> root) {
+		super(root);
+	}
+
+	@Override
+	public IMutationChances<M> create() {
+		return new MutationChances<>(root);
+	}
+}
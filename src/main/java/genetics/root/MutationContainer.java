@@ -1,11 +1,15 @@
 package genetics.root;
 
+import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableTable;
+import com.google.common.collect.Table;
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 import net.minecraft.util.ResourceLocation;
 
@@ -18,83 +22,174 @@ import genetics.api.mutation.IMutation;
 import genetics.api.mutation.IMutationContainer;
 import genetics.api.root.IIndividualRoot;
 
+import genetics.utils.ShuffledList;
+
+/**
+ * Contains every mutation of a root.
+ * <p>
+ * The mutations are indexed by the registry names of their parent species when the container is created, so the
+ * combinations of species can be looked up without iterating over every registered mutation. The registry names are
+ * used instead of the ids of the alleles, because the ids can change if the registry gets remapped.
+ * <p>
+ * The mutations are also indexed by the alleles of their templates for every chromosome type, so the paths to a
+ * result can be looked up without iterating over every registered mutation.
+ * <p>
+ * The {@link MutationMatrix} that is used by {@link MutationChances} is created together with the container.
+ */
 public class MutationContainer<I extends IIndividual, M extends IMutation> implements IMutationContainer<M> {
 
 	private final ImmutableList<M> mutations;
 	private final IIndividualRoot<I> root;
+	/* All mutations with the two parents of the row and the column, in the order of the registration. */
+	private final ImmutableTable<ResourceLocation, ResourceLocation, ImmutableList<M>> mutationsByPair;
+	/* All mutations that the species is part of, in the order of the registration. */
+	private final ImmutableListMultimap<ResourceLocation, M> mutationsBySpecies;
+	/* All mutations that have the allele in their template, indexed by the index of the chromosome type. */
+	private final ImmutableList<ImmutableListMultimap<IAllele, M>> mutationsByResult;
+	/* The cumulative chances of the mutations of every pair of species. */
+	private final MutationMatrix<M> matrix;
 
 	public MutationContainer(IIndividualRoot<I> root, ImmutableList<M> mutations) {
 		this.root = root;
 		this.mutations = mutations;
+		this.mutationsByPair = createPairIndex(mutations);
+		this.mutationsBySpecies = createSpeciesIndex(mutations);
+		this.mutationsByResult = createResultIndex(root.getKaryotype(), mutations);
+		this.matrix = new MutationMatrix<>(mutations, this::getPairMutations);
+	}
+
+	private static <M extends IMutation> ImmutableTable<ResourceLocation, ResourceLocation, ImmutableList<M>> createPairIndex(List<M> mutations) {
+		Table<ResourceLocation, ResourceLocation, ImmutableList.Builder<M>> builders = HashBasedTable.create();
+		for (M mutation : mutations) {
+			ResourceLocation firstParent = mutation.getFirstParent().getRegistryName();
+			ResourceLocation secondParent = mutation.getSecondParent().getRegistryName();
+			if (firstParent == null || secondParent == null) {
+				continue;
+			}
+			addToPair(builders, firstParent, secondParent, mutation);
+			if (!firstParent.equals(secondParent)) {
+				addToPair(builders, secondParent, firstParent, mutation);
+			}
+		}
+		ImmutableTable.Builder<ResourceLocation, ResourceLocation, ImmutableList<M>> index = ImmutableTable.builder();
+		for (Table.Cell<ResourceLocation, ResourceLocation, ImmutableList.Builder<M>> cell : builders.cellSet()) {
+			index.put(cell.getRowKey(), cell.getColumnKey(), cell.getValue().build());
+		}
+		return index.build();
+	}
+
+	private static <M extends IMutation> void addToPair(Table<ResourceLocation, ResourceLocation, ImmutableList.Builder<M>> builders, ResourceLocation first, ResourceLocation second, M mutation) {
+		ImmutableList.Builder<M> builder = builders.get(first, second);
+		if (builder == null) {
+			builder = ImmutableList.builder();
+			builders.put(first, second, builder);
+		}
+		builder.add(mutation);
+	}
+
+	private static <M extends IMutation> ImmutableListMultimap<ResourceLocation, M> createSpeciesIndex(List<M> mutations) {
+		ImmutableListMultimap.Builder<ResourceLocation, M> index = ImmutableListMultimap.builder();
+		for (M mutation : mutations) {
+			ResourceLocation firstParent = mutation.getFirstParent().getRegistryName();
+			ResourceLocation secondParent = mutation.getSecondParent().getRegistryName();
+			if (firstParent != null) {
+				index.put(firstParent, mutation);
+			}
+			if (secondParent != null && !secondParent.equals(firstParent)) {
+				index.put(secondParent, mutation);
+			}
+		}
+		return index.build();
+	}
+
+	private static <M extends IMutation> ImmutableList<ImmutableListMultimap<IAllele, M>> createResultIndex(IKaryotype karyotype, List<M> mutations) {
+		IChromosomeType[] types = karyotype.getChromosomeTypes();
+		List<ImmutableListMultimap.Builder<IAllele, M>> builders = new ArrayList<>(types.length);
+		for (int i = 0; i < types.length; i++) {
+			builders.add(ImmutableListMultimap.builder());
+		}
+		for (M mutation : mutations) {
+			IAllele[] template = mutation.getTemplate();
+			for (int index = 0; index < Math.min(template.length, types.length); index++) {
+				IAllele allele = template[index];
+				if (allele != null) {
+					builders.get(index).put(allele, mutation);
+				}
+			}
+		}
+		ImmutableList.Builder<ImmutableListMultimap<IAllele, M>> index = ImmutableList.builder();
+		for (ImmutableListMultimap.Builder<IAllele, M> builder : builders) {
+			index.add(builder.build());
+		}
+		return index.build();
+	}
+
+	/**
+	 * @return The chance matrix of the mutations of this container, created together with the container.
+	 */
+	MutationMatrix<M> getMatrix() {
+		return matrix;
 	}
 
 	@Override
 	public List<M> getMutations(boolean shuffle) {
 		if (shuffle) {
-			Collections.shuffle(mutations);
+			return getMutations(ThreadLocalRandom.current());
 		}
 		return mutations;
 	}
 
+	@Override
+	public List<M> getMutations(Random rand) {
+		return ShuffledList.of(mutations, rand);
+	}
+
 	@Override
 	public List<M> getCombinations(IAlleleSpecies other) {
-		List<M> combinations = new ArrayList<>();
-		for (M mutation : getMutations(false)) {
-			if (mutation.isPartner(other)) {
-				combinations.add(mutation);
-			}
+		ResourceLocation species = other.getRegistryName();
+		if (species == null) {
+			return ImmutableList.of();
 		}
-
-		return combinations;
+		return mutationsBySpecies.get(species);
 	}
 
 	@Override
 	public List<M> getResultantMutations(IAllele other) {
-		IKaryotype karyotype = root.getKaryotype();
-		List<M> resultants = new ArrayList<>();
-		int speciesIndex = karyotype.getSpeciesType().getIndex();
-		for (M mutation : getMutations(false)) {
-			IAllele[] template = mutation.getTemplate();
-			if (template.length <= speciesIndex) {
-				continue;
-			}
-			IAllele speciesAllele = template[speciesIndex];
-			if (speciesAllele == other) {
-				resultants.add(mutation);
-			}
-		}
-
-		return resultants;
+		return getPaths(other, root.getKaryotype().getSpeciesType());
 	}
 
 	@Override
 	public List<M> getCombinations(IAlleleSpecies parentFirst, IAlleleSpecies parentSecond, boolean shuffle) {
-		List<M> combinations = new ArrayList<>();
-
-		ResourceLocation parentSpecies = parentSecond.getRegistryName();
-		for (M mutation : getMutations(shuffle)) {
-			if (mutation.isPartner(parentFirst)) {
-				IAllele partner = mutation.getPartner(parentFirst);
-				if (partner.getRegistryName().equals(parentSpecies)) {
-					combinations.add(mutation);
-				}
-			}
+		if (shuffle) {
+			return getCombinations(parentFirst, parentSecond, ThreadLocalRandom.current());
 		}
+		return getPairMutations(parentFirst, parentSecond);
+	}
+
+	@Override
+	public List<M> getCombinations(IAlleleSpecies parentFirst, IAlleleSpecies parentSecond, Random rand) {
+		return ShuffledList.of(getPairMutations(parentFirst, parentSecond), rand);
+	}
 
+	private List<M> getPairMutations(IAlleleSpecies parentFirst, IAlleleSpecies parentSecond) {
+		ResourceLocation firstSpecies = parentFirst.getRegistryName();
+		ResourceLocation secondSpecies = parentSecond.getRegistryName();
+		if (firstSpecies == null || secondSpecies == null) {
+			return ImmutableList.of();
+		}
+		ImmutableList<M> combinations = mutationsByPair.get(firstSpecies, secondSpecies);
+		if (combinations == null) {
+			return ImmutableList.of();
+		}
 		return combinations;
 	}
 
 	@Override
-	public Collection<M> getPaths(IAllele result, IChromosomeType chromosomeType) {
-		ArrayList<M> paths = new ArrayList<>();
-		for (M mutation : getMutations(false)) {
-			IAllele[] template = mutation.getTemplate();
-			IAllele mutationResult = template[chromosomeType.getIndex()];
-			if (mutationResult == result) {
-				paths.add(mutation);
-			}
+	public List<M> getPaths(IAllele result, IChromosomeType chromosomeType) {
+		int index = chromosomeType.getIndex();
+		if (index >= mutationsByResult.size()) {
+			return ImmutableList.of();
 		}
-
-		return paths;
+		return mutationsByResult.get(index).get(result);
 	}
 }
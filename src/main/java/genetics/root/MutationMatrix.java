@@ -0,0 +1,140 @@
+package genetics.root;
+
+import com.google.common.collect.ImmutableList;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import net.minecraft.util.ResourceLocation;
+
+import genetics.api.alleles.IAlleleSpecies;
+import genetics.api.mutation.IMutation;
+
+import genetics.ApiInstance;
+import genetics.alleles.AlleleRegistry;
+import genetics.alleles.AlleleSnapshot;
+
+/**
+ * Contains the cumulative base chances of the mutations of every pair of species in a dense matrix.
+ * <p>
+ * Every species that is a parent of at least one mutation gets a compact index. The cell of a pair of species has the
+ * position <code>firstIndex * speciesCount + secondIndex</code> in the matrix.
+ * <p>
+ * The compact index of a species is resolved from its allele id with a table that gets created for every
+ * {@link AlleleSnapshot}, so the table follows the ids if the registry gets remapped. The registry names of the
+ * species are only used before the allele registry is frozen.
+ */
+final class MutationMatrix<M extends IMutation> {
+	private final IAlleleSpecies[] species;
+	private final Map<ResourceLocation, Integer> indexByName = new HashMap<>();
+	/* Null if the pair has no mutations. */
+	private final Cell<M>[] cells;
+	@Nullable
+	private volatile IdIndex idIndex;
+
+	/**
+	 * @param combinations Returns the mutations of a pair of species in the order of their registration.
+	 */
+	@SuppressWarnings("unchecked")
+	MutationMatrix(List<? extends M> mutations, BiFunction<IAlleleSpecies, IAlleleSpecies, List<? extends M>> combinations) {
+		List<IAlleleSpecies> species = new ArrayList<>();
+		for (M mutation : mutations) {
+			addSpecies(species, mutation.getFirstParent());
+			addSpecies(species, mutation.getSecondParent());
+		}
+		this.species = species.toArray(new IAlleleSpecies[0]);
+		int speciesCount = this.species.length;
+		this.cells = new Cell[speciesCount * speciesCount];
+		for (int first = 0; first < speciesCount; first++) {
+			for (int second = 0; second < speciesCount; second++) {
+				List<? extends M> pairMutations = combinations.apply(this.species[first], this.species[second]);
+				if (!pairMutations.isEmpty()) {
+					cells[first * speciesCount + second] = new Cell<>(pairMutations);
+				}
+			}
+		}
+	}
+
+	private void addSpecies(List<IAlleleSpecies> species, IAlleleSpecies allele) {
+		ResourceLocation registryName = allele.getRegistryName();
+		if (registryName != null && !indexByName.containsKey(registryName)) {
+			indexByName.put(registryName, species.size());
+			species.add(allele);
+		}
+	}
+
+	/**
+	 * @return The cell of the pair of species or null if the pair has no mutations.
+	 */
+	@Nullable
+	Cell<M> getCell(IAlleleSpecies parentFirst, IAlleleSpecies parentSecond) {
+		int firstIndex = getIndex(parentFirst);
+		if (firstIndex < 0) {
+			return null;
+		}
+		int secondIndex = getIndex(parentSecond);
+		if (secondIndex < 0) {
+			return null;
+		}
+		return cells[firstIndex * species.length + secondIndex];
+	}
+
+	private int getIndex(IAlleleSpecies allele) {
+		AlleleRegistry registry = ApiInstance.INSTANCE.alleleRegistry;
+		AlleleSnapshot snapshot = registry == null ? null : registry.getSnapshot();
+		if (snapshot == null) {
+			Integer index = indexByName.get(allele.getRegistryName());
+			return index == null ? -1 : index;
+		}
+		IdIndex current = idIndex;
+		if (current == null || current.snapshot != snapshot) {
+			current = new IdIndex(snapshot, species);
+			idIndex = current;
+		}
+		int id = allele.getId();
+		if (snapshot.getAllele(id) != allele) {
+			id = snapshot.getId(allele);
+		}
+		return id < 0 ? -1 : current.indexById[id];
+	}
+
+	/**
+	 * Maps the ids of the snapshot to the compact indexes of the species.
+	 */
+	private static final class IdIndex {
+		private final AlleleSnapshot snapshot;
+		private final int[] indexById;
+
+		private IdIndex(AlleleSnapshot snapshot, IAlleleSpecies[] species) {
+			this.snapshot = snapshot;
+			this.indexById = new int[snapshot.size()];
+			Arrays.fill(indexById, -1);
+			for (int index = 0; index < species.length; index++) {
+				int id = snapshot.getId(species[index]);
+				if (id >= 0) {
+					indexById[id] = index;
+				}
+			}
+		}
+	}
+
+	static final class Cell<M extends IMutation> {
+		final ImmutableList<M> mutations;
+		final float[] cumulativeChances;
+
+		private Cell(List<? extends M> mutations) {
+			this.mutations = ImmutableList.copyOf(mutations);
+			this.cumulativeChances = new float[mutations.size()];
+			float chance = 0.0F;
+			for (int i = 0; i < mutations.size(); i++) {
+				chance += Math.max(0.0F, mutations.get(i).getBaseChance());
+				cumulativeChances[i] = chance;
+			}
+		}
+	}
+}
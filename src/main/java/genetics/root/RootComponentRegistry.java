@@ -21,6 +21,7 @@ public enum RootComponentRegistry implements IRootComponentRegistry {
 		registerFactory(ComponentKeys.TYPES, OrganismTypesBuilder::new);
 		registerFactory(ComponentKeys.TRANSLATORS, IndividualTranslatorBuilder::new);
 		registerFactory(ComponentKeys.MUTATIONS, MutationContainerBuilder::new);
+		registerFactory(ComponentKeys.MUTATION_CHANCES, MutationChancesBuilder::new);
 	}
 
 	@Override
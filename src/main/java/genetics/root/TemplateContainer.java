@@ -7,6 +7,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 
 import genetics.api.alleles.IAllele;
 import genetics.api.individual.IKaryotype;
@@ -15,6 +16,8 @@ import genetics.api.root.ITemplateContainer;
 public class TemplateContainer implements ITemplateContainer {
 	private final IKaryotype karyotype;
 	private final ImmutableMap<String, IAllele[]> templates;
+	/* The templates of the species that were requested with getSpeciesTemplate. */
+	private final Map<IAllele, SpeciesTemplate> speciesTemplates = new ConcurrentHashMap<>();
 
 	TemplateContainer(IKaryotype karyotype, ImmutableMap<String, IAllele[]> templates) {
 		this.karyotype = karyotype;
@@ -52,4 +55,63 @@ public class TemplateContainer implements ITemplateContainer {
 	public IKaryotype getKaryotype() {
 		return karyotype;
 	}
+
+	/**
+	 * Returns the template of the given species without copying it. The template is cached by this container, so it
+	 * lives as long as the root of this container.
+	 *
+	 * @return The template of the species or the default template of the karyotype if no template was registered for
+	 * the species.
+	 */
+	public SpeciesTemplate getSpeciesTemplate(IAllele species) {
+		SpeciesTemplate template = speciesTemplates.get(species);
+		if (template == null) {
+			template = speciesTemplates.computeIfAbsent(species, key -> createSpeciesTemplate(this, key));
+		}
+		return template;
+	}
+
+	/**
+	 * Creates the template of the given species out of a template container that doesn't cache the templates.
+	 */
+	public static SpeciesTemplate createSpeciesTemplate(ITemplateContainer container, IAllele species) {
+		IKaryotype karyotype = container.getKaryotype();
+		IAllele[] alleles = container.getTemplate(species.getRegistryName().toString());
+		if (alleles.length != karyotype.getChromosomeTypes().length) {
+			alleles = karyotype.getDefaultTemplate().alleles();
+		}
+		return new SpeciesTemplate(alleles);
+	}
+
+	/**
+	 * The template of a species and a fingerprint of its alleles.
+	 */
+	public static final class SpeciesTemplate {
+		private final IAllele[] alleles;
+		private final int fingerprint;
+
+		private SpeciesTemplate(IAllele[] alleles) {
+			this.alleles = alleles;
+			int hash = 1;
+			for (IAllele allele : alleles) {
+				hash = 31 * hash + (allele == null ? 0 : allele.getRegistryName().hashCode());
+			}
+			this.fingerprint = hash;
+		}
+
+		/**
+		 * @return The alleles of the template. The array must not be modified.
+		 */
+		public IAllele[] alleles() {
+			return alleles;
+		}
+
+		/**
+		 * @return A hash of the registry names of the alleles of the template. Doesn't depend on the ids of the alleles,
+		 * so it stays the same if the registry gets remapped.
+		 */
+		public int getFingerprint() {
+			return fingerprint;
+		}
+	}
 }
@@ -0,0 +1,73 @@
+package genetics.simulation;
+
+import genetics.api.alleles.IAllele;
+import genetics.api.individual.IChromosomeType;
+import genetics.api.individual.IKaryotype;
+
+import genetics.ApiInstance;
+import genetics.alleles.AlleleRegistry;
+
+/**
+ * The allele frequencies of one generation of a population that was simulated by a {@link PopulationSimulator}.
+ * <p>
+ * Every individual contributes its active and its inactive allele to the counts of a chromosome type.
+ */
+public class AlleleFrequencies {
+	private final IKaryotype karyotype;
+	private final int generation;
+	private final int populationSize;
+	private final int alleleCount;
+	/* The counts of every chromosome type indexed by the index of the type multiplied by the allele count plus the id of the allele. */
+	private final int[] counts;
+
+	AlleleFrequencies(IKaryotype karyotype, int generation, int populationSize, int alleleCount, int[] counts) {
+		this.karyotype = karyotype;
+		this.generation = generation;
+		this.populationSize = populationSize;
+		this.alleleCount = alleleCount;
+		this.counts = counts;
+	}
+
+	/**
+	 * @return The karyotype of the simulated population.
+	 */
+	public IKaryotype getKaryotype() {
+		return karyotype;
+	}
+
+	/**
+	 * @return The generation that this frequencies describe. The initial population has the generation 0.
+	 */
+	public int getGeneration() {
+		return generation;
+	}
+
+	/**
+	 * @return The amount of individuals in the population.
+	 */
+	public int getPopulationSize() {
+		return populationSize;
+	}
+
+	/**
+	 * @return How often the given allele was present at the chromosomes of the given type in this generation.
+	 */
+	public int getCount(IChromosomeType type, IAllele allele) {
+		AlleleRegistry registry = ApiInstance.INSTANCE.alleleRegistry;
+		int id = registry == null ? -1 : registry.getId(allele);
+		if (id < 0 || id >= alleleCount) {
+			return 0;
+		}
+		return counts[type.getIndex() * alleleCount + id];
+	}
+
+	/**
+	 * @return The share of all chromosomes of the given type in this generation that contain the given allele.
+	 */
+	public double getFrequency(IChromosomeType type, IAllele allele) {
+		if (populationSize == 0) {
+			return 0.0;
+		}
+		return getCount(type, allele) / (populationSize * 2.0);
+	}
+}
@@ -0,0 +1,262 @@
+package genetics.simulation;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+import genetics.api.alleles.IAllele;
+import genetics.api.alleles.IAlleleSpecies;
+import genetics.api.individual.IChromosomeType;
+import genetics.api.individual.IGenome;
+import genetics.api.individual.IKaryotype;
+import genetics.api.mutation.IMutation;
+import genetics.api.mutation.IMutationContainer;
+import genetics.api.root.IIndividualRoot;
+import genetics.api.root.components.ComponentKeys;
+
+import genetics.ApiInstance;
+import genetics.alleles.AlleleRegistry;
+
+/**
+ * Simulates the evolution of a population of genomes over many generations without the need of a world or a client.
+ * <p>
+ * Every generation has the same size as the initial population. The individuals of the next generation are bred
+ * from randomly chosen parents of the current generation with {@link IKaryotype#breed} and the mutations of the
+ * {@link IMutationContainer} of the root, if the root has one.
+ * <p>
+ * Every generation is split into chunks of a fixed size that are bred in parallel on the given {@link ForkJoinPool}.
+ * Every chunk uses its own {@link SplittableRandom} whose seed only depends on the seed of the simulator, the
+ * generation and the index of the chunk. So the result of a simulation is always the same for the same seed,
+ * regardless of the amount of threads the pool has.
+ */
+public class PopulationSimulator {
+	/**
+	 * The amount of offspring that are bred by one task.
+	 */
+	private static final int CHUNK_SIZE = 1024;
+	/**
+	 * The amount of genomes of which one task counts the alleles.
+	 */
+	private static final int COUNT_THRESHOLD = 4096;
+	private static final long GENERATION_GAMMA = 0x9E3779B97F4A7C15L;
+	private static final long CHUNK_GAMMA = 0xC2B2AE3D27D4EB4FL;
+
+	private final IKaryotype karyotype;
+	@Nullable
+	private final IMutationContainer<?> mutations;
+	private final ForkJoinPool pool;
+	private final long seed;
+	private final int litterSize;
+	/* Genomes of the resulting species of the mutations, created on the first time a mutation fires. */
+	private final Map<IMutation, IGenome> mutationGenomes = new ConcurrentHashMap<>();
+
+	/**
+	 * @param root       The root of the simulated population.
+	 * @param pool       The pool that executes the simulation.
+	 * @param seed       The seed that determines the complete course of the simulation.
+	 * @param litterSize The amount of offspring that every chosen pair of parents has.
+	 */
+	public PopulationSimulator(IIndividualRoot<?> root, ForkJoinPool pool, long seed, int litterSize) {
+		if (litterSize <= 0) {
+			throw new IllegalArgumentException("The litter size of a population simulation must be positive.");
+		}
+		this.karyotype = root.getKaryotype();
+		Optional<IMutationContainer> container = root.getComponent(ComponentKeys.MUTATIONS);
+		this.mutations = container.orElse(null);
+		this.pool = pool;
+		this.seed = seed;
+		this.litterSize = litterSize;
+	}
+
+	public PopulationSimulator(IIndividualRoot<?> root, ForkJoinPool pool, long seed) {
+		this(root, pool, seed, 1);
+	}
+
+	/**
+	 * Simulates the given amount of generations.
+	 * <p>
+	 * The allele frequencies of the initial population and of every simulated generation are passed to the consumer
+	 * as soon as the generation was created. The simulator itself only holds the current and the next generation.
+	 *
+	 * @param population  The initial population. Not modified by the simulation.
+	 * @param generations The amount of generations that should be simulated.
+	 * @param consumer    The consumer that receives the allele frequencies of every generation.
+	 * @return The last generation of the simulation.
+	 */
+	public IGenome[] simulate(IGenome[] population, int generations, Consumer<AlleleFrequencies> consumer) {
+		if (population.length == 0) {
+			throw new IllegalArgumentException("Tried to simulate a empty population.");
+		}
+		for (IGenome genome : population) {
+			if (genome.getKaryotype() != karyotype) {
+				String message = String.format("Tried to simulate a population of the karyotype '%s' with a genome of a different karyotype.", karyotype.getUID());
+				throw new IllegalArgumentException(message);
+			}
+		}
+		IGenome[] current = population.clone();
+		IGenome[] next = new IGenome[current.length];
+		consumer.accept(countAlleles(current, 0));
+		for (int generation = 1; generation <= generations; generation++) {
+			pool.invoke(new BreedTask(current, next, generation, 0, getChunkCount(current.length)));
+			IGenome[] previous = current;
+			current = next;
+			next = previous;
+			consumer.accept(countAlleles(current, generation));
+		}
+		return current;
+	}
+
+	private static int getChunkCount(int populationSize) {
+		return (populationSize + CHUNK_SIZE - 1) / CHUNK_SIZE;
+	}
+
+	private AlleleFrequencies countAlleles(IGenome[] population, int generation) {
+		AlleleRegistry registry = ApiInstance.INSTANCE.alleleRegistry;
+		if (registry == null) {
+			throw new IllegalStateException("Tried to simulate a population before the allele registry was created.");
+		}
+		IAllele[] alleleTable = registry.getAlleleTable();
+		if (alleleTable == null) {
+			throw new IllegalStateException("Tried to simulate a population while the allele registry gets remapped.");
+		}
+		int alleleCount = alleleTable.length;
+		int[] counts = pool.invoke(new CountTask(registry, population, alleleCount, 0, population.length));
+		return new AlleleFrequencies(karyotype, generation, population.length, alleleCount, counts);
+	}
+
+	private long getChunkSeed(int generation, int chunk) {
+		long hash = seed + generation * GENERATION_GAMMA + chunk * CHUNK_GAMMA;
+		hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+		hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+		return hash ^ (hash >>> 33);
+	}
+
+	private void breedChunk(IGenome[] parents, IGenome[] offspring, int generation, int chunk) {
+		SplittableRandom rand = new SplittableRandom(getChunkSeed(generation, chunk));
+		int start = chunk * CHUNK_SIZE;
+		int end = Math.min(start + CHUNK_SIZE, offspring.length);
+		int index = start;
+		while (index < end) {
+			IGenome first = parents[rand.nextInt(parents.length)];
+			IGenome second = parents[rand.nextInt(parents.length)];
+			IGenome mutatedFirst = mutate(first, second, rand);
+			IGenome mutatedSecond = mutate(second, first, rand);
+			int count = Math.min(litterSize, end - index);
+			IGenome[] litter = karyotype.breed(mutatedFirst, mutatedSecond, count, rand);
+			System.arraycopy(litter, 0, offspring, index, count);
+			index += count;
+		}
+	}
+
+	/**
+	 * Tries every mutation of the species of the two parents and replaces the first parent with the genome of the
+	 * resulting species of the first mutation that fires.
+	 */
+	private IGenome mutate(IGenome parent, IGenome partner, SplittableRandom rand) {
+		if (mutations == null) {
+			return parent;
+		}
+		IChromosomeType speciesType = karyotype.getSpeciesType();
+		IAllele firstSpecies = parent.getActiveAllele(speciesType);
+		IAllele secondSpecies = partner.getActiveAllele(speciesType);
+		if (!(firstSpecies instanceof IAlleleSpecies) || !(secondSpecies instanceof IAlleleSpecies)) {
+			return parent;
+		}
+		for (IMutation mutation : mutations.getCombinations((IAlleleSpecies) firstSpecies, (IAlleleSpecies) secondSpecies, false)) {
+			if (rand.nextDouble() * 100.0 < mutation.getBaseChance()) {
+				return mutationGenomes.computeIfAbsent(mutation, key -> karyotype.templateAsGenome(key.getTemplate()));
+			}
+		}
+		return parent;
+	}
+
+	/**
+	 * Splits the chunks of a generation until every task only breeds a single chunk.
+	 */
+	private class BreedTask extends RecursiveAction {
+		private final IGenome[] parents;
+		private final IGenome[] offspring;
+		private final int generation;
+		private final int firstChunk;
+		private final int lastChunk;
+
+		private BreedTask(IGenome[] parents, IGenome[] offspring, int generation, int firstChunk, int lastChunk) {
+			this.parents = parents;
+			this.offspring = offspring;
+			this.generation = generation;
+			this.firstChunk = firstChunk;
+			this.lastChunk = lastChunk;
+		}
+
+		@Override
+		protected void compute() {
+			if (lastChunk - firstChunk <= 1) {
+				if (firstChunk < lastChunk) {
+					breedChunk(parents, offspring, generation, firstChunk);
+				}
+				return;
+			}
+			int middle = (firstChunk + lastChunk) >>> 1;
+			invokeAll(new BreedTask(parents, offspring, generation, firstChunk, middle),
+				new BreedTask(parents, offspring, generation, middle, lastChunk));
+		}
+	}
+
+	/**
+	 * Counts the active and inactive alleles of every chromosome type of a part of the population.
+	 */
+	private class CountTask extends RecursiveTask<int[]> {
+		private final AlleleRegistry registry;
+		private final IGenome[] population;
+		private final int alleleCount;
+		private final int start;
+		private final int end;
+
+		private CountTask(AlleleRegistry registry, IGenome[] population, int alleleCount, int start, int end) {
+			this.registry = registry;
+			this.population = population;
+			this.alleleCount = alleleCount;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected int[] compute() {
+			if (end - start > COUNT_THRESHOLD) {
+				int middle = (start + end) >>> 1;
+				CountTask second = new CountTask(registry, population, alleleCount, middle, end);
+				second.fork();
+				int[] counts = new CountTask(registry, population, alleleCount, start, middle).compute();
+				int[] secondCounts = second.join();
+				for (int i = 0; i < counts.length; i++) {
+					counts[i] += secondCounts[i];
+				}
+				return counts;
+			}
+			IChromosomeType[] types = karyotype.getChromosomeTypes();
+			int[] counts = new int[types.length * alleleCount];
+			for (int i = start; i < end; i++) {
+				IGenome genome = population[i];
+				for (IChromosomeType type : types) {
+					int offset = type.getIndex() * alleleCount;
+					count(counts, offset, genome.getActiveAllele(type));
+					count(counts, offset, genome.getInactiveAllele(type));
+				}
+			}
+			return counts;
+		}
+
+		private void count(int[] counts, int offset, IAllele allele) {
+			int id = registry.getId(allele);
+			if (id >= 0 && id < alleleCount) {
+				counts[offset + id]++;
+			}
+		}
+	}
+}
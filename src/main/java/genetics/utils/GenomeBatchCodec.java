@@ -0,0 +1,239 @@
+package genetics.utils;
+
+import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import net.minecraft.util.ResourceLocation;
+
+import genetics.api.alleles.IAllele;
+import genetics.api.individual.IChromosome;
+import genetics.api.individual.IChromosomeType;
+import genetics.api.individual.IGenome;
+import genetics.api.individual.IKaryotype;
+
+import genetics.ApiInstance;
+import genetics.GeneticFactory;
+import genetics.alleles.AlleleRegistry;
+import genetics.individual.Chromosome;
+
+/**
+ * Encodes many genomes of the same karyotype into a single byte array, so a large pool of genomes can be saved with one
+ * sequential write instead of one NBT-Compound for every genome.
+ * <p>
+ * The data starts with a header that contains the version of the layout, the order of the data, the amount of
+ * chromosomes of the karyotype and the amount of genomes. Every allele is written as the two bytes of its id, like in
+ * the {@link SimpleByteBuf#FIXED_WIDTH_VERSION} layout of a single genome.
+ * <p>
+ * The data is either ordered by genome, so every genome is written one after another, or by chromosome, so the
+ * chromosomes of one type of every genome are written one after another. The second order compresses better, because
+ * most genomes of a pool share the same alleles for many chromosome types.
+ */
+public final class GenomeBatchCodec {
+	private static final byte VERSION = 1;
+	private static final byte GENOME_ORDER = 0;
+	private static final byte CHROMOSOME_ORDER = 1;
+	/**
+	 * The amount of bytes of the header. The version, the order, the amount of chromosomes and the amount of genomes.
+	 */
+	private static final int HEADER_BYTES = 1 + 1 + 2 + 4;
+	private static final int ALLELE_BYTES = 2;
+	/**
+	 * Written instead of an id if a genome has no allele at a position.
+	 */
+	private static final int MISSING_ALLELE = 0xFFFF;
+
+	private GenomeBatchCodec() {
+	}
+
+	/**
+	 * @return The amount of bytes that the given amount of genomes of the karyotype take.
+	 */
+	public static int getEncodedSize(IKaryotype karyotype, int genomeCount) {
+		return HEADER_BYTES + genomeCount * karyotype.getChromosomeTypes().length * 2 * ALLELE_BYTES;
+	}
+
+	/**
+	 * Encodes the given genomes into a new byte array.
+	 *
+	 * @param chromosomeOrder True if the chromosomes of one type of every genome should be written one after another.
+	 */
+	public static byte[] write(IKaryotype karyotype, Collection<? extends IGenome> genomes, boolean chromosomeOrder) {
+		ByteBuffer buffer = ByteBuffer.allocate(getEncodedSize(karyotype, genomes.size()));
+		write(karyotype, genomes, chromosomeOrder, buffer);
+		return buffer.array();
+	}
+
+	/**
+	 * Encodes the given genomes into the given buffer, starting at the current position of the buffer.
+	 *
+	 * @param chromosomeOrder True if the chromosomes of one type of every genome should be written one after another.
+	 * @param buffer          A buffer with at least {@link #getEncodedSize(IKaryotype, int)} remaining bytes.
+	 */
+	public static void write(IKaryotype karyotype, Collection<? extends IGenome> genomes, boolean chromosomeOrder, ByteBuffer buffer) {
+		IChromosomeType[] types = karyotype.getChromosomeTypes();
+		for (IGenome genome : genomes) {
+			if (genome.getKaryotype() != karyotype) {
+				String message = String.format("Tried to write a genome of a different karyotype into a batch of the karyotype '%s'.", karyotype.getUID());
+				throw new IllegalArgumentException(message);
+			}
+		}
+		AlleleRegistry registry = ApiInstance.INSTANCE.alleleRegistry;
+		if (registry == null) {
+			throw new IllegalStateException("Tried to write genomes before the allele registry was created.");
+		}
+		buffer.put(VERSION);
+		buffer.put(chromosomeOrder ? CHROMOSOME_ORDER : GENOME_ORDER);
+		buffer.putShort((short) types.length);
+		buffer.putInt(genomes.size());
+		if (chromosomeOrder) {
+			for (IChromosomeType type : types) {
+				for (IGenome genome : genomes) {
+					writeChromosome(registry, buffer, genome, type);
+				}
+			}
+		} else {
+			for (IGenome genome : genomes) {
+				for (IChromosomeType type : types) {
+					writeChromosome(registry, buffer, genome, type);
+				}
+			}
+		}
+	}
+
+	private static void writeChromosome(AlleleRegistry registry, ByteBuffer buffer, IGenome genome, IChromosomeType type) {
+		writeAllele(registry, buffer, genome.getActiveAllele(type));
+		writeAllele(registry, buffer, genome.getInactiveAllele(type));
+	}
+
+	private static void writeAllele(AlleleRegistry registry, ByteBuffer buffer, @Nullable IAllele allele) {
+		int id = allele == null ? -1 : registry.getId(allele);
+		if (id >= MISSING_ALLELE) {
+			throw new IllegalStateException(String.format("The id '%s' of the allele '%s' is too big to be written.", id, allele));
+		}
+		buffer.putShort((short) (id < 0 ? MISSING_ALLELE : id));
+	}
+
+	/**
+	 * Creates a reader that decodes the genomes of the given data one at a time.
+	 */
+	public static Reader read(IKaryotype karyotype, byte[] data) {
+		return read(karyotype, ByteBuffer.wrap(data));
+	}
+
+	/**
+	 * Creates a reader that decodes the genomes of the given buffer one at a time, starting at the current position of
+	 * the buffer. The reader does not change the position of the given buffer.
+	 */
+	public static Reader read(IKaryotype karyotype, ByteBuffer buffer) {
+		return new Reader(karyotype, buffer.slice());
+	}
+
+	/**
+	 * Decodes the genomes of a batch one at a time. Alleles that are missing or not valid anymore get replaced by the
+	 * alleles of the template of the species, like it is done by {@link SimpleByteBuf}.
+	 */
+	public static final class Reader implements Iterator<IGenome> {
+		private final IKaryotype karyotype;
+		private final ByteBuffer buffer;
+		private final boolean chromosomeOrder;
+		private final int genomeCount;
+		private final int chromosomeCount;
+		private int genomeIndex;
+
+		private Reader(IKaryotype karyotype, ByteBuffer buffer) {
+			this.karyotype = karyotype;
+			this.buffer = buffer;
+			try {
+				byte version = buffer.get(0);
+				if (version != VERSION) {
+					throw new IllegalArgumentException(String.format("Unknown version '%s' of a genome batch.", version));
+				}
+				this.chromosomeOrder = buffer.get(1) == CHROMOSOME_ORDER;
+				this.chromosomeCount = buffer.getShort(2) & 0xFFFF;
+				this.genomeCount = buffer.getInt(4);
+			} catch (IndexOutOfBoundsException e) {
+				throw new IllegalArgumentException("The data of a genome batch is shorter than its header.", e);
+			}
+			if (chromosomeCount != karyotype.getChromosomeTypes().length) {
+				String message = String.format("Tried to read a genome batch with %s chromosomes with the karyotype '%s'.", chromosomeCount, karyotype.getUID());
+				throw new IllegalArgumentException(message);
+			}
+			if (genomeCount < 0 || buffer.limit() < getEncodedSize(karyotype, genomeCount)) {
+				throw new IllegalArgumentException("The data of a genome batch is shorter than the genomes that it contains.");
+			}
+		}
+
+		/**
+		 * @return The amount of genomes that the batch contains.
+		 */
+		public int getGenomeCount() {
+			return genomeCount;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return genomeIndex < genomeCount;
+		}
+
+		@Override
+		public IGenome next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			IGenome genome = readGenome(genomeIndex);
+			genomeIndex++;
+			return genome;
+		}
+
+		private IGenome readGenome(int index) {
+			AlleleRegistry registry = ApiInstance.INSTANCE.alleleRegistry;
+			if (registry == null) {
+				throw new IllegalStateException("Tried to read genomes before the allele registry was created.");
+			}
+			IChromosomeType[] types = karyotype.getChromosomeTypes();
+			IChromosome[] chromosomes = new IChromosome[types.length];
+			IChromosomeType speciesType = karyotype.getSpeciesType();
+			Chromosome species = readChromosome(registry, index, speciesType, null, null);
+			chromosomes[speciesType.getIndex()] = species;
+			ResourceLocation activeSpeciesUid = species.getActiveAllele().getRegistryName();
+			ResourceLocation inactiveSpeciesUid = species.getInactiveAllele().getRegistryName();
+			for (IChromosomeType type : types) {
+				if (type.equals(speciesType)) {
+					continue;
+				}
+				chromosomes[type.getIndex()] = readChromosome(registry, index, type, activeSpeciesUid, inactiveSpeciesUid);
+			}
+			return GeneticFactory.INSTANCE.createGenome(karyotype, chromosomes);
+		}
+
+		private Chromosome readChromosome(AlleleRegistry registry, int index, IChromosomeType type, @Nullable ResourceLocation activeSpeciesUid, @Nullable ResourceLocation inactiveSpeciesUid) {
+			int chromosome;
+			if (chromosomeOrder) {
+				chromosome = type.getIndex() * genomeCount + index;
+			} else {
+				chromosome = index * chromosomeCount + type.getIndex();
+			}
+			int position = HEADER_BYTES + chromosome * 2 * ALLELE_BYTES;
+			IAllele active = readAllele(registry, position);
+			IAllele inactive = readAllele(registry, position + ALLELE_BYTES);
+			return Chromosome.create(activeSpeciesUid, inactiveSpeciesUid, type, active, inactive);
+		}
+
+		@Nullable
+		private IAllele readAllele(AlleleRegistry registry, int position) {
+			int id;
+			try {
+				id = buffer.getShort(position) & 0xFFFF;
+			} catch (IndexOutOfBoundsException e) {
+				return null;
+			}
+			if (id == MISSING_ALLELE) {
+				return null;
+			}
+			return registry.getAllele(id);
+		}
+	}
+}
@@ -0,0 +1,59 @@
+package genetics.utils;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Random;
+import java.util.RandomAccess;
+
+/**
+ * A read-only view of a list that returns the elements of the list in a random order.
+ * <p>
+ * The view neither copies nor modifies the backing list, it only shuffles the indexes of the elements. The indexes
+ * are shuffled with the same steps as {@link java.util.Collections#shuffle(List, Random)}, so the view has the same
+ * order as a shuffled copy of the list would have with the same random source.
+ */
+public final class ShuffledList<E> extends AbstractList<E> implements RandomAccess {
+	private final List<E> list;
+	private final int[] indexes;
+
+	private ShuffledList(List<E> list, int[] indexes) {
+		this.list = list;
+		this.indexes = indexes;
+	}
+
+	/**
+	 * @param list A list with fast random access that must not be modified while the view is used.
+	 * @param rand The random source that determines the order of the view.
+	 * @return A view of the given list in a random order, or the list itself if it contains less than two elements.
+	 */
+	public static <E> List<E> of(List<E> list, Random rand) {
+		int size = list.size();
+		if (size < 2) {
+			return list;
+		}
+		int[] indexes = new int[size];
+		for (int i = 0; i < size; i++) {
+			indexes[i] = i;
+		}
+		for (int i = size; i > 1; i--) {
+			int swapIndex = rand.nextInt(i);
+			int index = indexes[i - 1];
+			indexes[i - 1] = indexes[swapIndex];
+			indexes[swapIndex] = index;
+		}
+		return new ShuffledList<>(list, indexes);
+	}
+
+	@Override
+	public E get(int index) {
+		if (index < 0 || index >= indexes.length) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + indexes.length);
+		}
+		return list.get(indexes[index]);
+	}
+
+	@Override
+	public int size() {
+		return indexes.length;
+	}
+}
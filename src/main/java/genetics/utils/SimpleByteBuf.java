@@ -17,19 +17,62 @@ import genetics.individual.ChromosomeInfo;
 
 /**
  * A byte buffer that can be used to encode and decode chromosomes and alleles into a byte array.
+ * <p>
+ * The buffer always writes the {@link #FIXED_WIDTH_VERSION} layout, but it can read every layout.
  */
 public class SimpleByteBuf {
+	/**
+	 * The first layout. Every allele id is written as a varint, so a single chromosome can only be read after all
+	 * chromosomes in front of it were read.
+	 */
+	public static final int VAR_INT_VERSION = 1;
+	/**
+	 * The current layout. The first byte of the data contains the version of the layout and every allele id is written
+	 * with a fixed width of two bytes after it, so every chromosome can be read directly by the index of its type.
+	 */
+	public static final int FIXED_WIDTH_VERSION = 2;
 
 	/**
 	 * Using 22 as a default capacity because that is the default size of an encoded tree genome.
 	 */
 	private static final int DEFAULT_INITIAL_CAPACITY = 22;
+	/**
+	 * The amount of bytes that one allele id takes in the {@link #FIXED_WIDTH_VERSION} layout.
+	 */
+	private static final int ALLELE_ID_BYTES = 2;
+	/**
+	 * The amount of bytes that one chromosome takes in the {@link #FIXED_WIDTH_VERSION} layout.
+	 */
+	private static final int CHROMOSOME_BYTES = ALLELE_ID_BYTES * 2;
+	private static final int MAX_ALLELE_ID = 0xFFFF;
+	/**
+	 * A buffer for every thread that gets reused by {@link #getScratchBuffer(int)}.
+	 */
+	private static final ThreadLocal<SimpleByteBuf> SCRATCH_BUFFER = ThreadLocal.withInitial(SimpleByteBuf::new);
 
 	private byte[] data;
+	/**
+	 * The amount of bytes of the internal array that contain data.
+	 */
+	private int size;
+	/**
+	 * The layout that the data of this buffer has.
+	 */
+	private final int version;
+	/**
+	 * The position of the first chromosome in the data. One if the data starts with a header byte.
+	 */
+	private final int offset;
 	/**
 	 * The current index at that the buffer writes or reads the next byte.
 	 */
 	private int bufferIndex;
+	/**
+	 * The allele table that is used to resolve the ids of the alleles, or null if the ids should be resolved with the
+	 * current ids of the allele registry.
+	 */
+	@Nullable
+	private final IAllele[] alleleTable;
 
 	/**
 	 * Creates a byte buffer with the default initial capacity.
@@ -45,20 +88,72 @@ public class SimpleByteBuf {
 	 */
 	public SimpleByteBuf(int initialCapacity) {
 		this.data = new byte[initialCapacity];
+		this.version = FIXED_WIDTH_VERSION;
+		this.offset = 1;
+		this.alleleTable = null;
 	}
 
 	/**
-	 * Creates a byte buffer that uses the give byte array.
+	 * Creates a byte buffer that uses the give byte array, which has the {@link #VAR_INT_VERSION} layout.
 	 */
 	public SimpleByteBuf(byte[] data) {
+		this(data, VAR_INT_VERSION);
+	}
+
+	/**
+	 * Creates a byte buffer that uses the give byte array.
+	 *
+	 * @param version The layout of the data. Either {@link #VAR_INT_VERSION} or {@link #FIXED_WIDTH_VERSION}.
+	 */
+	public SimpleByteBuf(byte[] data, int version) {
+		this(data, version, null);
+	}
+
+	/**
+	 * Creates a byte buffer that uses the give byte array and resolves the ids of the alleles with the given table.
+	 *
+	 * @param version     The layout of the data. Either {@link #VAR_INT_VERSION} or {@link #FIXED_WIDTH_VERSION}. Data
+	 *                    of the fixed width layout that doesn't start with the version is treated as empty.
+	 * @param alleleTable A table of the allele registry that contains every allele at the position of its id, or null
+	 *                    if the current ids of the registry should be used.
+	 */
+	public SimpleByteBuf(byte[] data, int version, @Nullable IAllele[] alleleTable) {
 		this.data = data;
+		this.version = version;
+		if (version == FIXED_WIDTH_VERSION) {
+			this.offset = 1;
+			this.size = data.length > 0 && data[0] == FIXED_WIDTH_VERSION ? data.length : 0;
+		} else {
+			this.offset = 0;
+			this.size = data.length;
+		}
+		this.alleleTable = alleleTable;
 	}
 
 	/**
-	 * @return A array with all data that this byte buffer contains.
+	 * @return The amount of bytes that the given amount of chromosomes takes in the {@link #FIXED_WIDTH_VERSION} layout.
+	 */
+	public static int getEncodedSize(int chromosomeCount) {
+		return 1 + chromosomeCount * CHROMOSOME_BYTES;
+	}
+
+	/**
+	 * Returns a empty buffer of the current thread that has at least the given capacity. The buffer gets reused by the
+	 * next call on the same thread, so it must not be used after {@link #toByteArray()} was called.
+	 */
+	public static SimpleByteBuf getScratchBuffer(int capacity) {
+		SimpleByteBuf buffer = SCRATCH_BUFFER.get();
+		buffer.size = 0;
+		buffer.bufferIndex = 0;
+		buffer.ensureCapacity(capacity);
+		return buffer;
+	}
+
+	/**
+	 * @return A new array with all data that this byte buffer contains.
 	 */
 	public byte[] toByteArray() {
-		return data;
+		return Arrays.copyOf(data, size);
 	}
 
 	/**
@@ -68,6 +163,7 @@ public class SimpleByteBuf {
 	 * @param karyotype   The species root of the genome that contains the chromosomes.
 	 */
 	public void writeChromosomes(IChromosome[] chromosomes, IKaryotype karyotype) {
+		writeByte(FIXED_WIDTH_VERSION);
 		for (IChromosomeType type : karyotype) {
 			int index = type.getIndex();
 			if (index >= chromosomes.length) {
@@ -80,28 +176,27 @@ public class SimpleByteBuf {
 	}
 
 	/**
-	 * Write the internal id of the allele to the byte array as a varint.
+	 * Write the internal id of the allele to the byte array as a fixed width short.
 	 */
 	private void writeAllele(IAllele allele) {
 		AlleleRegistry registry = ApiInstance.INSTANCE.alleleRegistry;
 		int id = registry == null ? -1 : registry.getId(allele);
 		if (id < 0) {
-			writeVarInt(0);
+			writeShort(0);
 			return;
 		}
-		writeVarInt(id);
+		if (id > MAX_ALLELE_ID) {
+			throw new IllegalStateException(String.format("The id '%s' of the allele '%s' is too big to be written.", id, allele));
+		}
+		writeShort(id);
 	}
 
 	/**
-	 * Write a varint to the array.
+	 * Write a unsigned short to the array.
 	 */
-	private void writeVarInt(int input) {
-		while ((input & -128) != 0) {
-			writeByte((byte) (input & 127 | 128));
-			input >>>= 7;
-		}
-
-		writeByte((byte) input);
+	private void writeShort(int input) {
+		writeByte(input >>> 8 & 255);
+		writeByte(input & 255);
 	}
 
 	/**
@@ -113,15 +208,16 @@ public class SimpleByteBuf {
 		}
 		ensureCapacity(bufferIndex + 1);
 		data[bufferIndex++] = (byte) input;
+		size = Math.max(size, bufferIndex);
 	}
 
 	/**
-	 * Checks if the byte array has a specific length. If the array is to short, it creates a new array with the length
-	 * and copies the content from the old array into the new array.
+	 * Checks if the byte array has a specific length. If the array is to short, it creates a new array that is at least
+	 * twice as long and copies the content from the old array into the new array.
 	 */
 	private void ensureCapacity(int capacity) {
 		if (capacity - data.length > 0) {
-			data = Arrays.copyOf(data, data.length + 1);
+			data = Arrays.copyOf(data, Math.max(capacity, data.length * 2));
 		}
 	}
 
@@ -132,6 +228,31 @@ public class SimpleByteBuf {
 	 * @return The chromosome that were read.
 	 */
 	public IChromosome[] readChromosomes(IKaryotype karyotype) {
+		if (version == VAR_INT_VERSION) {
+			return readVarIntChromosomes(karyotype);
+		}
+		IChromosomeType[] types = karyotype.getChromosomeTypes();
+		IChromosome[] chromosomes = new IChromosome[types.length];
+		IChromosomeType speciesType = karyotype.getSpeciesType();
+
+		Chromosome species = readChromosomeAt(speciesType, null, null);
+		chromosomes[speciesType.getIndex()] = species;
+		ResourceLocation primaryTemplateIdentifier = species.getActiveAllele().getRegistryName();
+		ResourceLocation secondaryTemplateIdentifier = species.getInactiveAllele().getRegistryName();
+
+		for (IChromosomeType type : types) {
+			if (type.equals(speciesType)) {
+				continue;
+			}
+			chromosomes[type.getIndex()] = readChromosomeAt(type, primaryTemplateIdentifier, secondaryTemplateIdentifier);
+		}
+		return chromosomes;
+	}
+
+	/**
+	 * Reads the chromosomes from the byte array if it has the {@link #VAR_INT_VERSION} layout.
+	 */
+	private IChromosome[] readVarIntChromosomes(IKaryotype karyotype) {
 		IChromosomeType[] types = karyotype.getChromosomeTypes();
 		IChromosome[] chromosomes = new IChromosome[types.length];
 
@@ -160,18 +281,108 @@ public class SimpleByteBuf {
 	}
 
 	/**
-	 * Read a allele from the byte array using the internal id of the allele written to the array as a varint.
+	 * Reads the chromosome of the given type directly from its position in the {@link #FIXED_WIDTH_VERSION} layout.
+	 */
+	private Chromosome readChromosomeAt(IChromosomeType type, @Nullable ResourceLocation activeSpeciesUid, @Nullable ResourceLocation inactiveSpeciesUid) {
+		bufferIndex = offset + type.getIndex() * CHROMOSOME_BYTES;
+		return readChromosome(type, activeSpeciesUid, inactiveSpeciesUid);
+	}
+
+	/**
+	 * Reads the chromosome of the given type directly from its position without reading any other chromosome. Only
+	 * supported by the {@link #FIXED_WIDTH_VERSION} layout.
+	 *
+	 * @param species The species chromosome of the genome that is used to replace missing alleles, or null if the
+	 *                species chromosome should be read.
+	 */
+	public IChromosome readChromosome(IChromosomeType type, @Nullable IChromosome species) {
+		if (version == VAR_INT_VERSION) {
+			throw new IllegalStateException("Only the fixed width layout supports reading a chromosome directly.");
+		}
+		if (species == null) {
+			return readChromosomeAt(type, null, null);
+		}
+		return readChromosomeAt(type, species.getActiveAllele().getRegistryName(), species.getInactiveAllele().getRegistryName());
+	}
+
+	/**
+	 * Reads the alleles of the chromosomes of the given types in one pass over the byte array.
+	 *
+	 * @param types   The types of the chromosomes that should be read. All types have to belong to the same karyotype.
+	 * @param alleles The array to that the active and inactive alleles of the chromosomes are written interleaved.
+	 *                The alleles of a chromosome that is absent are set to null.
+	 */
+	public void readAlleles(IChromosomeType[] types, IAllele[] alleles) {
+		if (types.length == 0) {
+			return;
+		}
+		IKaryotype karyotype = types[0].getRoot().getKaryotype();
+		if (version == VAR_INT_VERSION) {
+			IChromosome[] chromosomes = readVarIntChromosomes(karyotype);
+			for (int i = 0; i < types.length; i++) {
+				IChromosome chromosome = chromosomes[types[i].getIndex()];
+				alleles[i * 2] = chromosome == null ? null : chromosome.getActiveAllele();
+				alleles[i * 2 + 1] = chromosome == null ? null : chromosome.getInactiveAllele();
+			}
+			return;
+		}
+		IChromosomeType speciesType = karyotype.getSpeciesType();
+		ResourceLocation activeSpeciesUid = null;
+		ResourceLocation inactiveSpeciesUid = null;
+		if (canReadChromosome(speciesType)) {
+			Chromosome species = readChromosomeAt(speciesType, null, null);
+			activeSpeciesUid = species.getActiveAllele().getRegistryName();
+			inactiveSpeciesUid = species.getInactiveAllele().getRegistryName();
+		}
+		for (int i = 0; i < types.length; i++) {
+			IChromosomeType type = types[i];
+			if (!canReadChromosome(type)) {
+				alleles[i * 2] = null;
+				alleles[i * 2 + 1] = null;
+				continue;
+			}
+			Chromosome chromosome = readChromosomeAt(type, activeSpeciesUid, inactiveSpeciesUid);
+			alleles[i * 2] = chromosome.getActiveAllele();
+			alleles[i * 2 + 1] = chromosome.getInactiveAllele();
+		}
+	}
+
+	/**
+	 * @return True if the byte array contains the chromosome of the given type in the {@link #FIXED_WIDTH_VERSION}
+	 * layout.
+	 */
+	private boolean canReadChromosome(IChromosomeType type) {
+		return offset + (type.getIndex() + 1) * CHROMOSOME_BYTES <= size;
+	}
+
+	/**
+	 * Read a allele from the byte array using the internal id of the allele written to the array.
 	 */
 	@Nullable
 	private IAllele readAllele() {
+		int id = version == VAR_INT_VERSION ? readVarInt() : readShort();
+		if (alleleTable != null) {
+			return id >= 0 && id < alleleTable.length ? alleleTable[id] : null;
+		}
 		AlleleRegistry registry = ApiInstance.INSTANCE.alleleRegistry;
-		int id = readVarInt();
-		if (registry == null) {
+		if (registry == null || id < 0) {
 			return null;
 		}
 		return registry.getAllele(id);
 	}
 
+	/**
+	 * Read a unsigned short from the byte array.
+	 *
+	 * @return The short or -1 if the array contains not enough bytes.
+	 */
+	private int readShort() {
+		if (bufferIndex < 0 || bufferIndex + ALLELE_ID_BYTES > size) {
+			return -1;
+		}
+		return (readByte() & 255) << 8 | readByte() & 255;
+	}
+
 	/**
 	 * Read a varint from the byte array.
 	 */
@@ -197,7 +408,7 @@ public class SimpleByteBuf {
 	 * Read a byte from the array.
 	 */
 	private byte readByte() {
-		if (bufferIndex < 0 || bufferIndex >= data.length) {
+		if (bufferIndex < 0 || bufferIndex >= size) {
 			return -1;
 		}
 		return data[bufferIndex++];
@@ -212,8 +423,20 @@ public class SimpleByteBuf {
 	 */
 	public ChromosomeInfo readChromosome(IChromosomeType geneType) {
 		IKaryotype karyotype = geneType.getRoot().getKaryotype();
-		IChromosomeType[] keys = karyotype.getChromosomeTypes();
 		ChromosomeInfo info = new ChromosomeInfo(geneType);
+		if (version != VAR_INT_VERSION) {
+			IChromosomeType speciesType = karyotype.getSpeciesType();
+			if (!geneType.equals(speciesType) && canReadChromosome(speciesType)) {
+				Chromosome chromosome = readChromosomeAt(speciesType, null, null);
+
+				info.setSpeciesInfo(chromosome.getActiveAllele().getRegistryName(), chromosome.getInactiveAllele().getRegistryName());
+			}
+			if (canReadChromosome(geneType)) {
+				info.setChromosome(readChromosomeAt(geneType, info.activeSpeciesUid, info.inactiveSpeciesUid));
+			}
+			return info;
+		}
+		IChromosomeType[] keys = karyotype.getChromosomeTypes();
 
 		for (IChromosomeType key : keys) {
 			if (geneType.equals(key)) {
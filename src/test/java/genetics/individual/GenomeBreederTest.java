@@ -0,0 +1,104 @@
+package genetics.individual;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import genetics.api.alleles.IAllele;
+import genetics.api.individual.IChromosome;
+import genetics.api.individual.IGenome;
+
+import genetics.test.TestChromosomes;
+import genetics.test.TestGenetics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GenomeBreederTest {
+	private static final int OFFSPRING = 512;
+
+	/**
+	 * Every chromosome of the bred offspring has to be one of the chromosomes that
+	 * {@link Chromosome#inheritChromosome(Random, IChromosome)} can create, and each of these chromosomes has to be bred.
+	 */
+	@Test
+	public void testOffspringMatchesInheritedChromosomes() {
+		Random rand = new Random(0);
+		for (int i = 0; i < 16; i++) {
+			IGenome first = new Genome(TestGenetics.KARYOTYPE, TestGenetics.createRandomChromosomes(rand));
+			IGenome second = new Genome(TestGenetics.KARYOTYPE, TestGenetics.createRandomChromosomes(rand));
+			IGenome[] offspring = TestGenetics.KARYOTYPE.breed(first, second, OFFSPRING, new SplittableRandom(i));
+			assertEquals(OFFSPRING, offspring.length);
+			for (TestChromosomes type : TestChromosomes.values()) {
+				Set<Outcome> expected = getInheritedOutcomes(first.getChromosome(type), second.getChromosome(type));
+				Set<Outcome> bred = new HashSet<>();
+				for (IGenome genome : offspring) {
+					Outcome outcome = new Outcome(genome.getActiveAllele(type), genome.getInactiveAllele(type));
+					assertTrue(expected.contains(outcome), type.getName());
+					bred.add(outcome);
+				}
+				assertEquals(expected, bred);
+			}
+		}
+	}
+
+	/**
+	 * @return All chromosomes that can be inherited, by answering the three decisions of inheritChromosome with every
+	 * combination of bits.
+	 */
+	private static Set<Outcome> getInheritedOutcomes(IChromosome first, IChromosome second) {
+		Set<Outcome> outcomes = new HashSet<>();
+		for (int bits = 0; bits < 8; bits++) {
+			IChromosome chromosome = first.inheritChromosome(new BitRandom(bits), second);
+			outcomes.add(new Outcome(chromosome.getActiveAllele(), chromosome.getInactiveAllele()));
+		}
+		return outcomes;
+	}
+
+	private static final class BitRandom extends Random {
+		private int bits;
+
+		private BitRandom(int bits) {
+			this.bits = bits;
+		}
+
+		@Override
+		public boolean nextBoolean() {
+			boolean bit = (bits & 1) != 0;
+			bits >>= 1;
+			return bit;
+		}
+	}
+
+	private static final class Outcome {
+		private final IAllele active;
+		private final IAllele inactive;
+
+		private Outcome(IAllele active, IAllele inactive) {
+			this.active = active;
+			this.inactive = inactive;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Outcome)) {
+				return false;
+			}
+			Outcome other = (Outcome) obj;
+			return active == other.active && inactive == other.inactive;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(active) + System.identityHashCode(inactive);
+		}
+
+		@Override
+		public String toString() {
+			return active + "/" + inactive;
+		}
+	}
+}
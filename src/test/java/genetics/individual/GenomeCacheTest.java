@@ -0,0 +1,39 @@
+package genetics.individual;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.nbt.NBTTagCompound;
+
+import genetics.api.individual.IChromosome;
+import genetics.api.individual.IGenome;
+
+import genetics.test.TestGenetics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class GenomeCacheTest {
+	@Test
+	public void testEqualDataReturnsSameGenome() {
+		IChromosome[] chromosomes = TestGenetics.createChromosomes(TestGenetics.getTemplate(TestGenetics.SPECIES_FIRST), TestGenetics.getTemplate(TestGenetics.SPECIES_SECOND));
+		NBTTagCompound firstCompound = SaveFormat.BINARY.writeTag(chromosomes, TestGenetics.KARYOTYPE, new NBTTagCompound());
+		NBTTagCompound secondCompound = SaveFormat.BINARY.writeTag(chromosomes, TestGenetics.KARYOTYPE, new NBTTagCompound());
+
+		IGenome genome = GeneticSaveHandler.INSTANCE.createGenome(TestGenetics.KARYOTYPE, firstCompound);
+		assertSame(genome, GeneticSaveHandler.INSTANCE.createGenome(TestGenetics.KARYOTYPE, secondCompound));
+	}
+
+	@Test
+	public void testDifferentDataReturnsDifferentGenomes() {
+		IChromosome[] firstChromosomes = TestGenetics.createChromosomes(TestGenetics.getTemplate(TestGenetics.SPECIES_FIRST), TestGenetics.getTemplate(TestGenetics.SPECIES_FIRST));
+		IChromosome[] secondChromosomes = TestGenetics.createChromosomes(TestGenetics.getTemplate(TestGenetics.SPECIES_SECOND), TestGenetics.getTemplate(TestGenetics.SPECIES_FIRST));
+		NBTTagCompound firstCompound = SaveFormat.BINARY.writeTag(firstChromosomes, TestGenetics.KARYOTYPE, new NBTTagCompound());
+		NBTTagCompound secondCompound = SaveFormat.BINARY.writeTag(secondChromosomes, TestGenetics.KARYOTYPE, new NBTTagCompound());
+
+		IGenome firstGenome = GeneticSaveHandler.INSTANCE.createGenome(TestGenetics.KARYOTYPE, firstCompound);
+		IGenome secondGenome = GeneticSaveHandler.INSTANCE.createGenome(TestGenetics.KARYOTYPE, secondCompound);
+		assertNotSame(firstGenome, secondGenome);
+		assertEquals(TestGenetics.SPECIES_SECOND, secondGenome.getActiveAllele(TestGenetics.KARYOTYPE.getSpeciesType()));
+	}
+}
@@ -0,0 +1,52 @@
+package genetics.individual;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import genetics.api.individual.IGenome;
+import genetics.api.individual.IGenomeWrapper;
+import genetics.api.individual.IGenomeWrapperFactory;
+
+import genetics.test.TestChromosomes;
+import genetics.test.TestGenetics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GenomeWrapperFactoryTest {
+	@Test
+	public void testWrapperValuesMatchGenome() {
+		IGenomeWrapperFactory factory = new GenomeWrapperFactory(TestGenetics.KARYOTYPE);
+		Random rand = new Random(0);
+		for (int i = 0; i < 32; i++) {
+			IGenome genome = new Genome(TestGenetics.KARYOTYPE, TestGenetics.createRandomChromosomes(rand));
+			IGenomeWrapper wrapper = factory.createWrapper(genome);
+			assertTrue(wrapper instanceof GeneratedGenomeWrapper);
+			assertSame(genome, wrapper.getGenome());
+			for (TestChromosomes type : TestChromosomes.values()) {
+				assertSame(genome.getActiveAllele(type), factory.getAlleleAccessor(type).getActive(wrapper));
+				assertSame(genome.getInactiveAllele(type), factory.getAlleleAccessor(type).getInactive(wrapper));
+			}
+			assertEquals(genome.getActiveInt(TestChromosomes.SIZE), factory.getIntAccessor(TestChromosomes.SIZE).getActive(wrapper));
+			assertEquals((int) genome.getInactiveValue(TestChromosomes.SIZE, Integer.class), factory.getIntAccessor(TestChromosomes.SIZE).getInactive(wrapper));
+			assertEquals(genome.getActiveFloat(TestChromosomes.SPEED), factory.getFloatAccessor(TestChromosomes.SPEED).getActive(wrapper));
+			assertEquals((float) genome.getInactiveValue(TestChromosomes.SPEED, Float.class), factory.getFloatAccessor(TestChromosomes.SPEED).getInactive(wrapper));
+			assertEquals(genome.getActiveBoolean(TestChromosomes.FERTILE), factory.getBooleanAccessor(TestChromosomes.FERTILE).getActive(wrapper));
+			assertEquals((boolean) genome.getInactiveValue(TestChromosomes.FERTILE, Boolean.class), factory.getBooleanAccessor(TestChromosomes.FERTILE).getInactive(wrapper));
+			assertEquals(genome.getActiveValue(TestChromosomes.NAME, String.class), factory.getValueAccessor(TestChromosomes.NAME, String.class).getActive(wrapper));
+			assertEquals(genome.getInactiveValue(TestChromosomes.NAME, String.class), factory.getValueAccessor(TestChromosomes.NAME, String.class).getInactive(wrapper));
+		}
+	}
+
+	@Test
+	public void testAccessorsAreCreatedOnce() {
+		IGenomeWrapperFactory factory = new GenomeWrapperFactory(TestGenetics.KARYOTYPE);
+		assertSame(factory.getAlleleAccessor(TestChromosomes.SPECIES), factory.getAlleleAccessor(TestChromosomes.SPECIES));
+		assertSame(factory.getIntAccessor(TestChromosomes.SIZE), factory.getIntAccessor(TestChromosomes.SIZE));
+		assertSame(factory.getValueAccessor(TestChromosomes.NAME, String.class), factory.getValueAccessor(TestChromosomes.NAME, String.class));
+		assertSame(factory.getValueAccessor(TestChromosomes.NAME, String.class), factory.getValueAccessor(TestChromosomes.NAME, CharSequence.class));
+		assertSame(factory.getValueAccessor(TestChromosomes.SIZE, Integer.class), factory.getValueAccessor(TestChromosomes.SIZE, Number.class));
+	}
+}
@@ -0,0 +1,50 @@
+package genetics.individual;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.nbt.NBTTagCompound;
+
+import genetics.api.individual.IChromosome;
+import genetics.api.individual.IGenome;
+
+import genetics.test.TestChromosomes;
+import genetics.test.TestGenetics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LazyGenomeTest {
+	@Test
+	public void testLazyGenomeEqualsEagerGenome() {
+		Random rand = new Random(0);
+		for (int i = 0; i < 64; i++) {
+			IChromosome[] chromosomes = TestGenetics.createRandomChromosomes(rand);
+			NBTTagCompound compound = SaveFormat.BINARY.writeTag(chromosomes, TestGenetics.KARYOTYPE, new NBTTagCompound());
+			IGenome eager = new Genome(TestGenetics.KARYOTYPE, compound);
+			IGenome lazy = GeneticSaveHandler.INSTANCE.createLazyGenome(TestGenetics.KARYOTYPE, compound);
+
+			assertTrue(lazy instanceof LazyGenome);
+			assertEquals(eager, lazy);
+			assertEquals(lazy, eager);
+			assertEquals(eager.hashCode(), lazy.hashCode());
+			assertEquals(eager.getFingerprint(), lazy.getFingerprint());
+			assertTrue(lazy.isGeneticEqual(eager));
+			assertArrayEquals(eager.getActiveAlleles(), lazy.getActiveAlleles());
+			assertArrayEquals(eager.getInactiveAlleles(), lazy.getInactiveAlleles());
+			for (TestChromosomes type : TestChromosomes.values()) {
+				assertSame(eager.getActiveAllele(type), lazy.getActiveAllele(type));
+				assertSame(eager.getInactiveAllele(type), lazy.getInactiveAllele(type));
+				assertEquals(eager.isPureBred(type), lazy.isPureBred(type));
+			}
+			assertEquals(eager.getActiveInt(TestChromosomes.SIZE), lazy.getActiveInt(TestChromosomes.SIZE));
+			assertEquals(eager.getActiveFloat(TestChromosomes.SPEED), lazy.getActiveFloat(TestChromosomes.SPEED));
+			assertEquals(eager.getActiveBoolean(TestChromosomes.FERTILE), lazy.getActiveBoolean(TestChromosomes.FERTILE));
+			assertEquals(eager.getActiveValue(TestChromosomes.NAME, String.class), lazy.getActiveValue(TestChromosomes.NAME, String.class));
+			assertEquals(eager.getInactiveValue(TestChromosomes.NAME, String.class), lazy.getInactiveValue(TestChromosomes.NAME, String.class));
+		}
+	}
+}
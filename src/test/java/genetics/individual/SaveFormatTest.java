@@ -0,0 +1,109 @@
+package genetics.individual;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.nbt.NBTTagCompound;
+
+import genetics.api.alleles.IAllele;
+import genetics.api.individual.IChromosome;
+import genetics.api.individual.IChromosomeType;
+
+import genetics.test.TestChromosomes;
+import genetics.test.TestGenetics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class SaveFormatTest {
+	private static final int GENOME_COUNT = 64;
+
+	@Test
+	public void testUidRoundTrip() {
+		testRoundTrip(SaveFormat.UID);
+	}
+
+	@Test
+	public void testBinaryRoundTrip() {
+		testRoundTrip(SaveFormat.BINARY);
+	}
+
+	@Test
+	public void testTemplateDeltaRoundTrip() {
+		testRoundTrip(SaveFormat.TEMPLATE_DELTA);
+		IChromosome[] chromosomes = TestGenetics.createChromosomes(TestGenetics.getTemplate(TestGenetics.SPECIES_SECOND), TestGenetics.getTemplate(TestGenetics.SPECIES_SECOND));
+		testRoundTrip(SaveFormat.TEMPLATE_DELTA, chromosomes);
+	}
+
+	private static void testRoundTrip(SaveFormat format) {
+		Random rand = new Random(format.ordinal());
+		for (int i = 0; i < GENOME_COUNT; i++) {
+			testRoundTrip(format, TestGenetics.createRandomChromosomes(rand));
+		}
+	}
+
+	private static void testRoundTrip(SaveFormat format, IChromosome[] chromosomes) {
+		IAllele[] expected = TestGenetics.getAlleles(chromosomes);
+		NBTTagCompound compound = format.writeTag(chromosomes, TestGenetics.KARYOTYPE, new NBTTagCompound());
+		assertArrayEquals(expected, TestGenetics.getAlleles(format.readTag(TestGenetics.KARYOTYPE, compound)), format.name());
+
+		IChromosomeType[] types = TestGenetics.KARYOTYPE.getChromosomeTypes();
+		IAllele[] alleles = new IAllele[types.length * 2];
+		format.readAlleles(compound, types, alleles);
+		assertArrayEquals(expected, alleles, format.name());
+		for (IChromosomeType type : types) {
+			IChromosome chromosome = format.getSpecificChromosome(compound, type);
+			assertSame(chromosomes[type.getIndex()].getActiveAllele(), chromosome.getActiveAllele());
+			assertSame(chromosomes[type.getIndex()].getInactiveAllele(), chromosome.getInactiveAllele());
+			assertSame(chromosomes[type.getIndex()].getActiveAllele(), format.getAlleleDirectly(compound, type, true));
+			assertSame(chromosomes[type.getIndex()].getInactiveAllele(), format.getAlleleDirectly(compound, type, false));
+		}
+	}
+
+	@Test
+	public void testVarIntDataIsLoaded() {
+		Random rand = new Random(0);
+		for (int i = 0; i < GENOME_COUNT; i++) {
+			IChromosome[] chromosomes = TestGenetics.createRandomChromosomes(rand);
+			IAllele[] expected = TestGenetics.getAlleles(chromosomes);
+			NBTTagCompound compound = new NBTTagCompound();
+			compound.setByteArray("data", writeVarInts(expected));
+			compound.setInteger("version", 1);
+
+			assertArrayEquals(expected, TestGenetics.getAlleles(GeneticSaveHandler.INSTANCE.readTag(TestGenetics.KARYOTYPE, compound)));
+			for (IChromosomeType type : TestChromosomes.values()) {
+				assertSame(chromosomes[type.getIndex()].getActiveAllele(), GeneticSaveHandler.INSTANCE.getAlleleDirectly(compound, type, true));
+				assertSame(chromosomes[type.getIndex()].getInactiveAllele(), GeneticSaveHandler.INSTANCE.getSpecificChromosome(compound, type).getInactiveAllele());
+			}
+			assertFalse(GeneticSaveHandler.INSTANCE.createGenome(TestGenetics.KARYOTYPE, compound) instanceof LazyGenome);
+		}
+	}
+
+	@Test
+	public void testBinaryDataIsVersioned() {
+		IChromosome[] chromosomes = TestGenetics.createChromosomes(TestGenetics.getTemplate(TestGenetics.SPECIES_FIRST), TestGenetics.getTemplate(TestGenetics.SPECIES_SECOND));
+		NBTTagCompound compound = SaveFormat.BINARY.writeTag(chromosomes, TestGenetics.KARYOTYPE, new NBTTagCompound());
+		assertEquals(2, compound.getInteger("version"));
+		assertEquals(2, compound.getByteArray("data")[0]);
+	}
+
+	/**
+	 * Writes the ids of the alleles in the varint layout that was used before the fixed width layout.
+	 */
+	private static byte[] writeVarInts(IAllele[] alleles) {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		for (IAllele allele : alleles) {
+			int id = TestGenetics.REGISTRY.getId(allele);
+			while ((id & -128) != 0) {
+				output.write(id & 127 | 128);
+				id >>>= 7;
+			}
+			output.write(id);
+		}
+		return output.toByteArray();
+	}
+}
@@ -0,0 +1,46 @@
+package genetics.test;
+
+import javax.annotation.Nullable;
+
+import genetics.api.individual.IChromosomeType;
+import genetics.api.root.IIndividualRoot;
+
+/**
+ * The chromosome types of the {@link TestGenetics#KARYOTYPE}. Contains a type for every value class that the genetic
+ * system handles differently.
+ */
+public enum TestChromosomes implements IChromosomeType {
+	SPECIES(null),
+	SIZE(Integer.class),
+	SPEED(Float.class),
+	FERTILE(Boolean.class),
+	NAME(String.class);
+
+	@Nullable
+	private final Class<?> valueClass;
+
+	TestChromosomes(@Nullable Class<?> valueClass) {
+		this.valueClass = valueClass;
+	}
+
+	@Override
+	public int getIndex() {
+		return ordinal();
+	}
+
+	@Override
+	public IIndividualRoot getRoot() {
+		return TestGenetics.ROOT;
+	}
+
+	@Override
+	public String getName() {
+		return name().toLowerCase();
+	}
+
+	@Nullable
+	@Override
+	public Class<?> getValueClass() {
+		return valueClass;
+	}
+}
@@ -0,0 +1,183 @@
+package genetics.test;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+
+import genetics.api.GeneticsAPI;
+import genetics.api.alleles.AlleleCategorized;
+import genetics.api.alleles.IAllele;
+import genetics.api.individual.IChromosome;
+import genetics.api.individual.IChromosomeType;
+import genetics.api.individual.IKaryotype;
+import genetics.api.root.IIndividualRoot;
+import genetics.api.root.ITemplateContainer;
+
+import genetics.ApiInstance;
+import genetics.alleles.AlleleRegistry;
+import genetics.alleles.AlleleTemplateBuilder;
+import genetics.individual.Chromosome;
+import genetics.individual.Karyotype;
+
+/**
+ * Registers the alleles of the {@link TestChromosomes} in a frozen allele registry and provides a karyotype and a
+ * root with a template for every species.
+ * <p>
+ * The registry is created once for all tests, because the genetic system only supports one registry at a time.
+ */
+public final class TestGenetics {
+	public static final String MOD_ID = "genetics_test";
+
+	public static final AlleleRegistry REGISTRY;
+	public static final IAllele SPECIES_FIRST;
+	public static final IAllele SPECIES_SECOND;
+	public static final IAllele SIZE_SMALL;
+	public static final IAllele SIZE_LARGE;
+	public static final IAllele SPEED_SLOW;
+	public static final IAllele SPEED_FAST;
+	public static final IAllele FERTILE;
+	public static final IAllele STERILE;
+	public static final IAllele NAME_FIRST;
+	public static final IAllele NAME_SECOND;
+	public static final IKaryotype KARYOTYPE;
+	public static final IIndividualRoot ROOT;
+
+	static {
+		REGISTRY = new AlleleRegistry();
+		ApiInstance.INSTANCE.setAlleleRegistry(REGISTRY);
+		GeneticsAPI.apiInstance = ApiInstance.INSTANCE;
+		SPECIES_FIRST = register("species", "first", "first", TestChromosomes.SPECIES);
+		SPECIES_SECOND = register("species", "second", "second", TestChromosomes.SPECIES);
+		SIZE_SMALL = register("size", "small", 1, TestChromosomes.SIZE);
+		SIZE_LARGE = register("size", "large", 3, TestChromosomes.SIZE);
+		SPEED_SLOW = register("speed", "slow", 0.5F, TestChromosomes.SPEED);
+		SPEED_FAST = register("speed", "fast", 2.0F, TestChromosomes.SPEED);
+		FERTILE = register("fertile", "true", true, TestChromosomes.FERTILE);
+		STERILE = register("fertile", "false", false, TestChromosomes.FERTILE);
+		NAME_FIRST = register("name", "first", "First", TestChromosomes.NAME);
+		NAME_SECOND = register("name", "second", "Second", TestChromosomes.NAME);
+		REGISTRY.freeze();
+
+		KARYOTYPE = new Karyotype("test", new HashSet<>(EnumSet.allOf(TestChromosomes.class)), TestChromosomes.SPECIES, AlleleTemplateBuilder::new,
+			builder -> builder.set(TestChromosomes.SPECIES, SPECIES_FIRST)
+				.set(TestChromosomes.SIZE, SIZE_SMALL)
+				.set(TestChromosomes.SPEED, SPEED_SLOW)
+				.set(TestChromosomes.FERTILE, FERTILE)
+				.set(TestChromosomes.NAME, NAME_FIRST)
+				.build());
+		ITemplateContainer templates = new TestTemplates(ImmutableMap.of(
+			SPECIES_FIRST.getRegistryName().toString(), new IAllele[]{SPECIES_FIRST, SIZE_SMALL, SPEED_SLOW, FERTILE, NAME_FIRST},
+			SPECIES_SECOND.getRegistryName().toString(), new IAllele[]{SPECIES_SECOND, SIZE_LARGE, SPEED_FAST, STERILE, NAME_SECOND}
+		));
+		ROOT = (IIndividualRoot) Proxy.newProxyInstance(TestGenetics.class.getClassLoader(), new Class[]{IIndividualRoot.class}, (proxy, method, args) -> {
+			switch (method.getName()) {
+				case "getKaryotype":
+					return KARYOTYPE;
+				case "getTemplates":
+					return templates;
+				case "getUID":
+				case "toString":
+					return "rootTest";
+				case "hashCode":
+					return System.identityHashCode(proxy);
+				case "equals":
+					return proxy == args[0];
+				default:
+					throw new UnsupportedOperationException(method.getName());
+			}
+		});
+	}
+
+	private TestGenetics() {
+	}
+
+	private static <V> IAllele register(String category, String name, V value, IChromosomeType type) {
+		return REGISTRY.registerAllele(new AlleleCategorized<>(MOD_ID, category, name, value, false), type);
+	}
+
+	/**
+	 * @return The chromosomes of the given templates.
+	 */
+	public static IChromosome[] createChromosomes(IAllele[] active, IAllele[] inactive) {
+		IChromosomeType[] types = KARYOTYPE.getChromosomeTypes();
+		IChromosome[] chromosomes = new IChromosome[types.length];
+		for (IChromosomeType type : types) {
+			chromosomes[type.getIndex()] = Chromosome.create(active[0].getRegistryName(), inactive[0].getRegistryName(), type, active[type.getIndex()], inactive[type.getIndex()]);
+		}
+		return chromosomes;
+	}
+
+	/**
+	 * @return The active and inactive alleles of the given chromosomes interleaved.
+	 */
+	public static IAllele[] getAlleles(IChromosome[] chromosomes) {
+		IAllele[] alleles = new IAllele[chromosomes.length * 2];
+		for (int i = 0; i < chromosomes.length; i++) {
+			alleles[i * 2] = chromosomes[i].getActiveAllele();
+			alleles[i * 2 + 1] = chromosomes[i].getInactiveAllele();
+		}
+		return alleles;
+	}
+
+	/**
+	 * @return The template of the given species.
+	 */
+	public static IAllele[] getTemplate(IAllele species) {
+		return ROOT.getTemplates().getTemplate(species.getRegistryName().toString());
+	}
+
+	/**
+	 * @return Chromosomes with random alleles out of the alleles of the test karyotype.
+	 */
+	public static IChromosome[] createRandomChromosomes(Random rand) {
+		IAllele[] first = getTemplate(SPECIES_FIRST);
+		IAllele[] second = getTemplate(SPECIES_SECOND);
+		IAllele[] active = new IAllele[first.length];
+		IAllele[] inactive = new IAllele[first.length];
+		for (int i = 0; i < first.length; i++) {
+			active[i] = rand.nextBoolean() ? first[i] : second[i];
+			inactive[i] = rand.nextBoolean() ? first[i] : second[i];
+		}
+		return createChromosomes(active, inactive);
+	}
+
+	private static final class TestTemplates implements ITemplateContainer {
+		private final ImmutableMap<String, IAllele[]> templates;
+
+		private TestTemplates(ImmutableMap<String, IAllele[]> templates) {
+			this.templates = templates;
+		}
+
+		@Override
+		public IAllele[] getTemplate(String identifier) {
+			IAllele[] template = templates.get(identifier);
+			return template == null ? new IAllele[0] : template.clone();
+		}
+
+		@Override
+		public IAllele[] getRandomTemplate(Random rand) {
+			IAllele[][] values = templates.values().toArray(new IAllele[0][]);
+			return values[rand.nextInt(values.length)].clone();
+		}
+
+		@Override
+		public Map<String, IAllele[]> getGenomeTemplates() {
+			return templates;
+		}
+
+		@Override
+		public Collection<IAllele[]> getTemplates() {
+			return templates.values();
+		}
+
+		@Override
+		public IKaryotype getKaryotype() {
+			return KARYOTYPE;
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package genetics.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import genetics.api.individual.IGenome;
+
+import genetics.individual.Genome;
+import genetics.test.TestGenetics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GenomeBatchCodecTest {
+	@Test
+	public void testGenomeOrderRoundTrip() {
+		testRoundTrip(false);
+	}
+
+	@Test
+	public void testChromosomeOrderRoundTrip() {
+		testRoundTrip(true);
+	}
+
+	private static void testRoundTrip(boolean chromosomeOrder) {
+		Random rand = new Random(0);
+		List<IGenome> genomes = new ArrayList<>();
+		for (int i = 0; i < 64; i++) {
+			genomes.add(new Genome(TestGenetics.KARYOTYPE, TestGenetics.createRandomChromosomes(rand)));
+		}
+		byte[] data = GenomeBatchCodec.write(TestGenetics.KARYOTYPE, genomes, chromosomeOrder);
+		assertEquals(GenomeBatchCodec.getEncodedSize(TestGenetics.KARYOTYPE, genomes.size()), data.length);
+
+		GenomeBatchCodec.Reader reader = GenomeBatchCodec.read(TestGenetics.KARYOTYPE, data);
+		assertEquals(genomes.size(), reader.getGenomeCount());
+		for (IGenome expected : genomes) {
+			IGenome genome = reader.next();
+			assertArrayEquals(expected.getActiveAlleles(), genome.getActiveAlleles());
+			assertArrayEquals(expected.getInactiveAlleles(), genome.getInactiveAlleles());
+		}
+		assertFalse(reader.hasNext());
+	}
+
+	@Test
+	public void testUnknownVersionIsRejected() {
+		byte[] data = GenomeBatchCodec.write(TestGenetics.KARYOTYPE, new ArrayList<>(), false);
+		data[0] = 0;
+		assertThrows(IllegalArgumentException.class, () -> GenomeBatchCodec.read(TestGenetics.KARYOTYPE, data));
+	}
+}